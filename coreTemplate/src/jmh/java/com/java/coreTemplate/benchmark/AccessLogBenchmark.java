@@ -0,0 +1,111 @@
+package com.java.coreTemplate.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.java.coreTemplate.config.AccessLogFilter;
+import com.java.coreTemplate.config.AccessLogProperties;
+import com.java.coreTemplate.config.AuthFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the access log. "off" disables the logger and is the baseline; "sync" writes
+ * straight to a file appender and "async" goes through the AsyncAppender used in logback-spring.xml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessLogBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"off", "sync", "async"})
+    public String mode;
+
+    @Param({"1.0", "0.05"})
+    public double sampleRate;
+
+    private AccessLogFilter filter;
+    private MockHttpServletRequest request;
+    private Appender<ILoggingEvent> appender;
+    private File logFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setSampleRate(sampleRate);
+        filter = new AccessLogFilter(properties);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/homes/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/homes/{id}");
+        request.setAttribute(AuthFilter.AUTHENTICATED_USER, "user-17");
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger("access");
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel("off".equals(mode) ? Level.OFF : Level.INFO);
+        if ("off".equals(mode)) {
+            return;
+        }
+
+        logFile = Files.createTempFile("access", ".log").toFile();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.getPath());
+        file.setEncoder(encoder);
+        file.start();
+
+        if ("async".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        } else {
+            appender = file;
+        }
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (appender != null) {
+            appender.stop();
+        }
+        if (logFile != null) {
+            logFile.delete();
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+}
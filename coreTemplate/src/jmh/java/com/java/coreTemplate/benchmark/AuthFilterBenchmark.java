@@ -0,0 +1,78 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.config.AuthFilter;
+import com.java.coreTemplate.config.JwtTokenUtil;
+import com.java.coreTemplate.config.SessionAuthService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private SessionAuthService sessionAuthService;
+    private AuthFilter filter;
+    private MockHttpServletRequest jwtRequest;
+    private MockHttpServletRequest sessionRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private String sessionId;
+
+    @Setup
+    public void setUp() {
+        sessionAuthService = new SessionAuthService();
+        filter = new AuthFilter(sessionAuthService);
+
+        jwtRequest = new MockHttpServletRequest("GET", "/api/v1/banners");
+        jwtRequest.addHeader("Authorization", "Bearer " + JwtTokenUtil.generateToken("user", Map.of("role", "user")));
+
+        sessionRequest = new MockHttpServletRequest("GET", "/api/v1/banners");
+        sessionId = sessionAuthService.createSession("user", sessionRequest);
+        for (int i = 0; i < 10_000; i++) {
+            sessionAuthService.createSession("user" + i, new MockHttpServletRequest());
+        }
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/v1/banners");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterWithJwt() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(jwtRequest, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterWithSession() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(sessionRequest, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(anonymousRequest, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public boolean sessionLookup() {
+        return sessionAuthService.isValidSession(sessionId);
+    }
+
+    @Benchmark
+    public String sessionUserLookup() {
+        return sessionAuthService.getUserIdFromSession(sessionId);
+    }
+}
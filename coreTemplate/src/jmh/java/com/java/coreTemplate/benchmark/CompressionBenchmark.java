@@ -0,0 +1,126 @@
+package com.java.coreTemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.java.coreTemplate.config.GzipEncoderPool;
+import com.java.coreTemplate.model.dto.Home;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire against CPU for gzip-compressing one /api/v1/homes page. Score is the time to
+ * compress a response; wireBytes / responses is its compressed size and jsonBytes / responses the
+ * uncompressed size. "pooled" reuses a GzipEncoderPool encoder as CompressionFilter does, "fresh"
+ * builds a GZIPOutputStream (and its native zlib state) per response. Add -prof gc for allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireCounters {
+        public long wireBytes;
+        public long jsonBytes;
+        public long responses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+            jsonBytes = 0;
+            responses = 0;
+        }
+    }
+
+    // Stands in for the socket; only counts what would be sent
+    static final class CountingStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+
+    @Param({"1", "5", "9"})
+    public int level;
+
+    @Param({"pooled", "fresh"})
+    public String encoder;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private byte[] json;
+    private GzipEncoderPool pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        LocalDateTime now = LocalDateTime.now();
+        List<Home> homes = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            Home home = new Home();
+            home.setId(i);
+            home.setName("Home " + i);
+            home.setAddress(i * 7 + " Main Street, Springfield");
+            home.setZipCode(String.valueOf(10_000 + i * 13));
+            home.setLatitude(40.75 + i / 1000.0);
+            home.setLongitude(-73.99 - i / 1000.0);
+            home.setPrice(250_000.0 + i * 1_250);
+            home.setBedrooms((int) (1 + i % 5));
+            home.setBathrooms((int) (1 + i % 3));
+            home.setSquareFootage((int) (900 + i * 11));
+            home.setActive(true);
+            home.setBuiltYear((int) (1950 + i % 70));
+            home.setCreatedAt(now.minusDays(i));
+            home.setUpdatedAt(now);
+            home.setVersion(i % 4);
+            homes.add(home);
+        }
+        json = objectMapper.writeValueAsBytes(new PageImpl<>(homes, PageRequest.of(0, pageSize), 1_000_000));
+        pool = new GzipEncoderPool(1, level);
+    }
+
+    @Benchmark
+    public void compress(WireCounters counters) throws IOException {
+        CountingStream socket = new CountingStream();
+        if ("pooled".equals(encoder)) {
+            GzipEncoderPool.Encoder gzip = pool.acquire();
+            try {
+                gzip.write(json, 0, json.length, socket);
+                gzip.finish(socket);
+            } finally {
+                pool.release(gzip);
+            }
+        } else {
+            // GZIPOutputStream always uses the default level; the level param only applies to "pooled"
+            try (GZIPOutputStream gzip = new GZIPOutputStream(socket, 8192)) {
+                gzip.write(json);
+            }
+        }
+        counters.wireBytes += socket.count;
+        counters.jsonBytes += json.length;
+        counters.responses++;
+    }
+}
@@ -0,0 +1,214 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.model.dto.Testimonials;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of saving one changed testimonial: time per transaction (load a page of rows, change the
+ * rating of one, commit) and the WAL it writes; walBytes / saves is the WAL volume per save.
+ * "enhanced" uses the real entity, bytecode-enhanced at build time and mapped with @DynamicUpdate;
+ * "snapshot" uses a plain copy of the mapping that is neither, so flush compares every managed
+ * row with its snapshot and the UPDATE re-sends all columns, including the TEXT content.
+ * Run after mvn -Pbenchmark test-compile so target/classes holds the enhanced entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUpdateBenchmark {
+
+    // Same table and columns as Testimonials; lives in the benchmark sources, which are not enhanced
+    @Entity(name = "SnapshotTestimonial")
+    @Table(name = "testimonials")
+    @Getter
+    @Setter
+    public static class SnapshotTestimonial {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(name = "author_name", nullable = false, length = 100)
+        private String authorName;
+        @Column(name = "author_title", length = 100)
+        private String authorTitle;
+        @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+        private String content;
+        @Column(name = "rating")
+        private Integer rating;
+        @Column(name = "is_featured")
+        private boolean isFeatured;
+        @Column(name = "is_approved")
+        private boolean isApproved;
+        @Column(name = "created_at", updatable = false)
+        private LocalDateTime createdAt;
+        @Column(name = "updated_at")
+        private LocalDateTime updatedAt;
+        @Version
+        private Long version;
+
+        @PrePersist
+        protected void onCreate() {
+            this.createdAt = LocalDateTime.now();
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        @PreUpdate
+        protected void onUpdate() {
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
+    // WAL position is read once per save on the session's connection, the same extra query in both modes
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WalCounters {
+        public long walBytes;
+        public long saves;
+        private long lastLsn;
+
+        @Setup(Level.Iteration)
+        public void start(EntityUpdateBenchmark benchmark) throws SQLException {
+            walBytes = 0;
+            saves = 0;
+            try (Connection connection = benchmark.dataSource.getConnection()) {
+                lastLsn = walPosition(connection);
+            }
+        }
+
+        void saved(long lsn) {
+            walBytes += lsn - lastLsn;
+            lastLsn = lsn;
+            saves++;
+        }
+    }
+
+    private static final int ROWS = 1_000;
+
+    @Param({"enhanced", "snapshot"})
+    public String mode;
+
+    // Rows in the persistence context at flush; snapshot comparison cost grows with it
+    @Param({"1", "50"})
+    public int managedEntities;
+
+    @Param({"4096"})
+    public int contentLength;
+
+    private EmbeddedPostgres postgres;
+    private DataSource dataSource;
+    private SessionFactory sessionFactory;
+    private Class<?> entityType;
+    private long firstId;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Commit does not wait for the WAL flush, so fsync latency does not hide the CPU difference
+        postgres = EmbeddedPostgres.builder().setServerConfig("synchronous_commit", "off").start();
+        HikariDataSource pool = new HikariDataSource();
+        pool.setDataSource(postgres.getPostgresDatabase());
+        pool.setMaximumPoolSize(2);
+        dataSource = pool;
+        entityType = "enhanced".equals(mode) ? Testimonials.class : SnapshotTestimonial.class;
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(entityType)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create");
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+
+        // Random text does not compress, so the content is stored out of line in TOAST as real reviews are
+        Random random = new Random(42);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(newRow(randomText(random, contentLength), i));
+            }
+        });
+        firstId = sessionFactory.fromSession(session ->
+                session.createSelectionQuery("select min(t.id) from " + entityName() + " t", Long.class).getSingleResult());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sessionFactory.close();
+        ((HikariDataSource) dataSource).close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void saveChangedRating(WalCounters counters) {
+        long from = firstId + (next++ * (long) managedEntities) % ROWS;
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            List<?> rows = session.createSelectionQuery(
+                            "from " + entityName() + " t where t.id >= :from order by t.id", entityType)
+                    .setParameter("from", from)
+                    .setMaxResults(managedEntities)
+                    .getResultList();
+            // Always a different value, so every transaction flushes exactly one UPDATE
+            if (rows.get(0) instanceof Testimonials testimonial) {
+                testimonial.setRating(testimonial.getRating().orElse(0) % 5 + 1);
+            } else {
+                SnapshotTestimonial testimonial = (SnapshotTestimonial) rows.get(0);
+                testimonial.setRating(testimonial.getRating() % 5 + 1);
+            }
+            session.getTransaction().commit();
+            counters.saved(session.doReturningWork(EntityUpdateBenchmark::walPosition));
+        }
+    }
+
+    private Object newRow(String content, int i) {
+        if (entityType == Testimonials.class) {
+            Testimonials row = new Testimonials();
+            row.setAuthorName("Author " + i);
+            row.setContent(content);
+            row.setRating(3);
+            return row;
+        }
+        SnapshotTestimonial row = new SnapshotTestimonial();
+        row.setAuthorName("Author " + i);
+        row.setContent(content);
+        row.setRating(3);
+        return row;
+    }
+
+    private String entityName() {
+        return sessionFactory.getMetamodel().entity(entityType).getName();
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(26)));
+        }
+        return text.toString();
+    }
+
+    private static long walPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.service.HomeGeoIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Radius search through the geohash index against a substring scan over addresses, the in-memory
+ * equivalent of HomeRepository.findByAddressContainingIgnoreCase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HomeGeoIndexBenchmark {
+
+    private static final double CENTER_LAT = 40.7506;
+    private static final double CENTER_LON = -73.9971;
+
+    @Param({"100000", "1000000"})
+    private int homes;
+
+    @Param({"1", "10"})
+    private double radiusKm;
+
+    private final HomeGeoIndex index = new HomeGeoIndex();
+    private final List<String> addresses = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<HomeLocation> locations = new ArrayList<>(homes);
+        for (long id = 1; id <= homes; id++) {
+            locations.add(new HomeLocation(id,
+                    CENTER_LAT + (random.nextDouble() - 0.5) * 2,
+                    CENTER_LON + (random.nextDouble() - 0.5) * 2,
+                    100_000 + random.nextInt(900_000) * 1.0,
+                    1 + random.nextInt(5)));
+            addresses.add(id + " Main Street, Springfield " + (10_000 + random.nextInt(90_000)));
+        }
+        index.rebuild(locations);
+    }
+
+    @Benchmark
+    public List<HomeLocation> geoIndexRadiusSearch() {
+        return index.findWithin(CENTER_LAT, CENTER_LON, radiusKm, location -> location.bedrooms() >= 2, 50);
+    }
+
+    @Benchmark
+    public List<String> addressSubstringScan() {
+        return addresses.stream()
+                .filter(address -> address.toLowerCase(Locale.ROOT).contains("springfield 1234"))
+                .limit(50)
+                .toList();
+    }
+}
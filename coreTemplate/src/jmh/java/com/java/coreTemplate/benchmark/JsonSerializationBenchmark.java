@@ -0,0 +1,109 @@
+package com.java.coreTemplate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.Navbar;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Banner> banners;
+    private Page<Home> homes;
+    private Page<Navbar> navbars;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<Banner> bannerList = new ArrayList<>();
+        List<Home> homeList = new ArrayList<>();
+        List<Navbar> navbarList = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= pageSize; i++) {
+            Banner banner = new Banner();
+            banner.setId(i);
+            banner.setName("Banner " + i);
+            banner.setImageUrl("https://cdn.example.com/banners/" + i + ".png");
+            banner.setTargetUrl("https://example.com/promo/" + i);
+            banner.setActive(true);
+            banner.setStartDate(now.minusDays(7));
+            banner.setEndDate(now.plusDays(7));
+            banner.setDisplayOrder((int) i);
+            banner.setCreatedAt(now);
+            banner.setUpdatedAt(now);
+            banner.setVersion(1L);
+            bannerList.add(banner);
+
+            Home home = new Home();
+            home.setId(i);
+            home.setName("Home " + i);
+            home.setAddress(i + " Main Street, Springfield");
+            home.setZipCode("10001");
+            home.setLatitude(40.75);
+            home.setLongitude(-73.99);
+            home.setPrice(250_000.0 + i);
+            home.setBedrooms(3);
+            home.setBathrooms(2);
+            home.setSquareFootage(1800);
+            home.setActive(true);
+            home.setBuiltYear(1995);
+            home.setCreatedAt(now);
+            home.setUpdatedAt(now);
+            home.setVersion(1L);
+            homeList.add(home);
+
+            Navbar navbar = new Navbar();
+            navbar.setId(i);
+            navbar.setName("Menu " + i);
+            navbar.setDisplayOrder((int) i);
+            navbar.setActive(true);
+            navbar.setUrl("/section/" + i);
+            navbar.setIconClass("icon-" + i);
+            navbar.setCreatedAt(Instant.now());
+            navbar.setVersion(1L);
+            navbarList.add(navbar);
+        }
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        banners = new PageImpl<>(bannerList, pageable, 10_000);
+        homes = new PageImpl<>(homeList, pageable, 1_000_000);
+        navbars = new PageImpl<>(navbarList, pageable, pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializeBannerPage() throws Exception {
+        return objectMapper.writeValueAsBytes(banners);
+    }
+
+    @Benchmark
+    public byte[] serializeHomePage() throws Exception {
+        return objectMapper.writeValueAsBytes(homes);
+    }
+
+    @Benchmark
+    public byte[] serializeNavbarPage() throws Exception {
+        return objectMapper.writeValueAsBytes(navbars);
+    }
+}
@@ -0,0 +1,40 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.config.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenUtilBenchmark {
+
+    private final Map<String, Object> claims = Map.of("role", "user", "email", "user@example.com");
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = JwtTokenUtil.generateToken("user", claims);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtTokenUtil.generateToken("user", claims);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return JwtTokenUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return JwtTokenUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,80 @@
+package com.java.coreTemplate.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.service.SerializedResponseCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering GET /api/v1/navbar/active from a warm cache. "entityCacheHit" is the
+ * @Cacheable path: look up the cached List and serialize it with Jackson. "serializedCacheHit"
+ * looks up the pre-serialized bytes and writes them unchanged. Run with -prof gc:
+ * gc.alloc.rate.norm is the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializedResponseBenchmark {
+
+    @Param({"10", "50"})
+    private int items;
+
+    private ObjectMapper objectMapper;
+    private Cache navbars;
+    private SerializedResponseCache responseCache;
+    private final OutputStream socket = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                // Like the HTTP converter, which never closes the servlet stream
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("navbars");
+        navbars = cacheManager.getCache("navbars");
+        responseCache = new SerializedResponseCache(cacheManager, objectMapper, DataSize.ofKilobytes(1));
+
+        List<Navbar> active = new ArrayList<>();
+        for (long i = 1; i <= items; i++) {
+            Navbar navbar = new Navbar();
+            navbar.setId(i);
+            navbar.setName("Menu " + i);
+            navbar.setDisplayOrder((int) i);
+            navbar.setActive(true);
+            navbar.setUrl("/section/" + i);
+            navbar.setIconClass("icon-" + i);
+            navbar.setCreatedAt(Instant.now());
+            navbar.setVersion(1L);
+            active.add(navbar);
+        }
+        // The key NavbarService.findAllActive caches under
+        navbars.put("active", active);
+        responseCache.get("navbars", "active", () -> active);
+    }
+
+    @Benchmark
+    public void entityCacheHit() throws IOException {
+        objectMapper.writeValue(socket, navbars.get("active", List.class));
+    }
+
+    @Benchmark
+    public void serializedCacheHit() throws IOException {
+        socket.write(responseCache.get("navbars", "active", List::of).json());
+    }
+}
@@ -0,0 +1,118 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.repository.BannerRepository;
+import com.java.coreTemplate.repository.NavbarRepository;
+import com.java.coreTemplate.service.BannerService;
+import com.java.coreTemplate.service.BatchLookupService;
+import com.java.coreTemplate.service.MergePatchService;
+import com.java.coreTemplate.service.NavbarService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the @Cacheable hit path of the services: Spring cache proxy, key evaluation and lookup.
+ * Repositories are mocks that only serve the first (miss) call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceCacheBenchmark {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        BannerRepository bannerRepository() {
+            BannerRepository repository = mock(BannerRepository.class);
+            Banner banner = new Banner();
+            banner.setId(1L);
+            banner.setName("Banner");
+            when(repository.findById(1L)).thenReturn(Optional.of(banner));
+            when(repository.findAll()).thenReturn(List.of(banner));
+            return repository;
+        }
+
+        @Bean
+        NavbarRepository navbarRepository() {
+            NavbarRepository repository = mock(NavbarRepository.class);
+            Navbar navbar = new Navbar();
+            navbar.setId(1L);
+            navbar.setName("Home");
+            when(repository.findByIsActiveTrue()).thenReturn(List.of(navbar));
+            return repository;
+        }
+
+        @Bean
+        BatchLookupService batchLookupService(CacheManager cacheManager) {
+            return new BatchLookupService(cacheManager, 100);
+        }
+
+        // The hit paths measured here never patch
+        @Bean
+        BannerService bannerService(BannerRepository repository, BatchLookupService batchLookup) {
+            return new BannerService(repository, mock(MergePatchService.class), batchLookup);
+        }
+
+        @Bean
+        NavbarService navbarService(NavbarRepository repository, BatchLookupService batchLookup) {
+            return new NavbarService(repository, batchLookup);
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private BannerService bannerService;
+    private NavbarService navbarService;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        bannerService = context.getBean(BannerService.class);
+        navbarService = context.getBean(NavbarService.class);
+        bannerService.findById(1L);
+        bannerService.findAll();
+        navbarService.findAllActive();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Banner> bannerFindByIdHit() {
+        return bannerService.findById(1L);
+    }
+
+    @Benchmark
+    public List<Banner> bannerFindAllHit() {
+        return bannerService.findAll();
+    }
+
+    @Benchmark
+    public List<Navbar> navbarFindAllActiveHit() {
+        return navbarService.findAllActive();
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.coreTemplate.benchmark;
+
+import com.java.coreTemplate.CoreTemplateApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cold start time, from JVM launch to a refreshed context (-Dspring.context.exit=onRefresh), for the
+ * plain local profile and with the fast-startup overlay. Each measurement is a fresh JVM, so JIT and
+ * class loading are paid every time as they are on an autoscaled instance. Run with
+ * -p mode=cds after mvn -Pfast-startup package to include the AOT + CDS build from target/cds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"default", "fast-startup"})
+    public String mode;
+
+    private EmbeddedPostgres postgres;
+    private File output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        output = Files.createTempFile("startup", ".log").toFile();
+        // Eager start with ddl-auto=create so the measured runs find the schema they validate against
+        run(command("default", "-Dspring.jpa.hibernate.ddl-auto=create"), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        postgres.close();
+        output.delete();
+    }
+
+    @Benchmark
+    public int startToRefresh() throws Exception {
+        if ("cds".equals(mode)) {
+            Path cds = Path.of("target", "cds");
+            return run(cdsCommand(cds), cds.toFile());
+        }
+        return run(command(mode), null);
+    }
+
+    private List<String> command(String mode, String... extraProperties) {
+        List<String> command = new ArrayList<>(List.of(javaBinary(), "-cp", System.getProperty("java.class.path")));
+        command.addAll(commonProperties(mode));
+        command.addAll(List.of(extraProperties));
+        command.add(CoreTemplateApplication.class.getName());
+        return command;
+    }
+
+    private List<String> cdsCommand(Path cds) throws IOException {
+        if (!Files.exists(cds.resolve("application.jsa"))) {
+            throw new IllegalStateException("No CDS archive in " + cds.toAbsolutePath() + ", run mvn -Pfast-startup package first");
+        }
+        String jar;
+        try (Stream<Path> files = Files.list(cds)) {
+            jar = files.map(p -> p.getFileName().toString()).filter(name -> name.endsWith(".jar")).findFirst().orElseThrow();
+        }
+        List<String> command = new ArrayList<>(List.of(javaBinary(), "-XX:SharedArchiveFile=application.jsa",
+                "-Dspring.aot.enabled=true"));
+        command.addAll(commonProperties("fast-startup"));
+        command.addAll(List.of("-jar", jar));
+        return command;
+    }
+
+    private List<String> commonProperties(String mode) {
+        return List.of(
+                "-Dspring.context.exit=onRefresh",
+                "-Dspring.profiles.active=" + ("default".equals(mode) ? "local" : "local,fast-startup"),
+                "-Dspring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "-Dspring.datasource.username=postgres",
+                "-Dspring.datasource.password=postgres",
+                "-Dspring.jpa.show-sql=false",
+                "-Dlogging.level.root=WARN");
+    }
+
+    private int run(List<String> command, File workingDirectory) throws Exception {
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(output))
+                .start();
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Application exited with " + exit + ", see " + output);
+        }
+        return exit;
+    }
+
+    private static String javaBinary() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.java.coreTemplate.benchmark;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second through embedded Tomcat with 10k concurrent connections, each request
+ * blocking for blockMillis the way a repository or OAuth call does. "platform" is Tomcat's default
+ * 200-thread pool, "virtual" is what spring.threads.virtual.enabled switches to.
+ * The virtual case needs Java 21 (-Pbenchmark,virtual-threads) and about 25k open files (ulimit -n).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ThreadModelBenchmark {
+
+    private static final int CONNECTIONS = 10_000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20"})
+    public int blockMillis;
+
+    private Tomcat tomcat;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        String baseDir = Files.createTempDirectory("tomcat-bench").toString();
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(baseDir);
+
+        Connector connector = new Connector("HTTP/1.1");
+        connector.setPort(0);
+        AbstractProtocol<?> protocol = (AbstractProtocol<?>) connector.getProtocolHandler();
+        protocol.setMaxConnections(CONNECTIONS + 1_000);
+        protocol.setAcceptCount(CONNECTIONS);
+        protocol.setMaxThreads(200);
+        if ("virtual".equals(threads)) {
+            protocol.setExecutor(new VirtualThreadExecutor("bench-vt-"));
+        }
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", baseDir);
+        Tomcat.addServlet(context, "blocking", new BlockingServlet(blockMillis));
+        context.addServletMappingDecoded("/", "blocking");
+        tomcat.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort() + "/")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONNECTIONS)
+    public int concurrentRequests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    private static final class BlockingServlet extends HttpServlet {
+        private final int blockMillis;
+
+        private BlockingServlet(int blockMillis) {
+            this.blockMillis = blockMillis;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                Thread.sleep(blockMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resp.getWriter().write("ok");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.java.coreTemplate.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.java.coreTemplate.model.dto.Advertise;
+import com.java.coreTemplate.model.dto.Home;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of a 100-row /api/v1/homes and /api/v1/advertise payload in each wire
+ * format WireFormatConfig negotiates. payloadBytes / encodes is the body size on the wire
+ * (before any Content-Encoding). Add -prof gc to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+        public long payloadBytes;
+        public long encodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+            encodes = 0;
+        }
+    }
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"homes", "advertise"})
+    public String resource;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<?> rows;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper mapper = new ObjectMapper(factory)
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.now();
+        if ("homes".equals(resource)) {
+            List<Home> homes = new ArrayList<>();
+            for (long i = 1; i <= 100; i++) {
+                Home home = new Home();
+                home.setId(i);
+                home.setName("Home " + i);
+                home.setAddress(i * 7 + " Main Street, Springfield");
+                home.setZipCode(String.valueOf(10_000 + i * 13));
+                home.setLatitude(40.75 + i / 1000.0);
+                home.setLongitude(-73.99 - i / 1000.0);
+                home.setPrice(250_000.0 + i * 1_250);
+                home.setBedrooms((int) (1 + i % 5));
+                home.setBathrooms((int) (1 + i % 3));
+                home.setSquareFootage((int) (900 + i * 11));
+                home.setActive(true);
+                home.setBuiltYear((int) (1950 + i % 70));
+                home.setCreatedAt(now.minusDays(i));
+                home.setUpdatedAt(now);
+                home.setVersion(i % 4);
+                homes.add(home);
+            }
+            rows = homes;
+            reader = mapper.readerForListOf(Home.class);
+        } else {
+            List<Advertise> advertisements = new ArrayList<>();
+            for (long i = 1; i <= 100; i++) {
+                Advertise advertise = new Advertise();
+                advertise.setId(i);
+                advertise.setTitle("Listing " + i);
+                advertise.setDescription("Well kept, close to transport and schools. Reference " + i * 31);
+                advertise.setPrice(99.0 + i);
+                advertise.setFeatured(i % 10 == 0);
+                advertise.setActive(true);
+                advertise.setCreatedAt(now.minusHours(i));
+                advertise.setUpdatedAt(now);
+                advertise.setVersion(1L);
+                advertisements.add(advertise);
+            }
+            rows = advertisements;
+            reader = mapper.readerForListOf(Advertise.class);
+        }
+        writer = mapper.writer();
+        encoded = writer.writeValueAsBytes(rows);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadCounters counters) throws Exception {
+        byte[] body = writer.writeValueAsBytes(rows);
+        counters.payloadBytes += body.length;
+        counters.encodes++;
+        return body;
+    }
+
+    @Benchmark
+    public List<?> decode() throws Exception {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one fixed-schema JSON line per API request to the "access" logger, which logback-spring.xml
+ * routes to an async appender. The line is built in a per-thread buffer so the hot path allocates
+ * little beyond the final String.
+ */
+public class AccessLogFilter implements Filter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final AccessLogProperties properties;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        long start = System.nanoTime();
+        CacheOutcomeStatsCounter.begin();
+        // Stays 500 when the chain throws: the container has not written the error response yet
+        int status = 500;
+        try {
+            chain.doFilter(request, response);
+            status = httpResponse.getStatus();
+        } finally {
+            String cache = CacheOutcomeStatsCounter.end();
+            long latencyMicros = (System.nanoTime() - start) / 1_000;
+            if (shouldLog(status, latencyMicros)) {
+                ACCESS_LOG.info(format(httpRequest, status, latencyMicros, cache));
+            }
+        }
+    }
+
+    boolean shouldLog(int status, long latencyMicros) {
+        if (properties.isAlwaysLogErrors()
+                && (status >= 500 || latencyMicros >= properties.getSlowThreshold().toNanos() / 1_000)) {
+            return true;
+        }
+        double rate = properties.getSampleRate();
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    // {"ts":..,"method":..,"endpoint":..,"status":..,"latency_us":..,"user":..,"cache":..}
+    static String format(HttpServletRequest request, int status, long latencyMicros, String cache) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object user = request.getAttribute(AuthFilter.AUTHENTICATED_USER);
+
+        StringBuilder json = BUFFER.get();
+        json.setLength(0);
+        json.append("{\"ts\":").append(System.currentTimeMillis());
+        json.append(",\"method\":\"").append(request.getMethod()).append('"');
+        json.append(",\"endpoint\":");
+        appendString(json, pattern != null ? pattern.toString() : request.getRequestURI());
+        json.append(",\"status\":").append(status);
+        json.append(",\"latency_us\":").append(latencyMicros);
+        json.append(",\"user\":");
+        if (user != null) {
+            appendString(json, user.toString());
+        } else {
+            json.append("null");
+        }
+        json.append(",\"cache\":\"").append(cache).append("\"}");
+        return json.toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,31 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the JSON access log written by {@link AccessLogFilter} (access-log.* in application*.yml).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    // Fraction of ordinary requests that are logged, 0.0 - 1.0
+    private double sampleRate = 1.0;
+
+    // Server errors and requests slower than slow-threshold are logged regardless of sampling
+    private boolean alwaysLogErrors = true;
+
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    // Read by logback-spring.xml: access log location and async queue capacity per appender
+    private String file = "logs/access.log";
+
+    private int queueSize = 8192;
+}
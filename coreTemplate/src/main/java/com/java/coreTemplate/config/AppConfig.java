@@ -1,17 +1,84 @@
 package com.java.coreTemplate.config;
 
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
 
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AccessLogProperties.class)
 public class AppConfig {
+    // Runs ahead of authFilter so rejected requests are logged as well
     @Bean
-    public FilterRegistrationBean<AuthFilter> authFilter(SessionAuthService sessionAuthService) {
+    @ConditionalOnProperty(prefix = "access-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogProperties properties) {
+        FilterRegistrationBean<AccessLogFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AccessLogFilter(properties));
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AuthFilter> authFilter(SessionAuthService sessionAuthService,
+                                                        ObservationRegistry observationRegistry) {
         FilterRegistrationBean<AuthFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new AuthFilter(sessionAuthService));
+        registrationBean.setFilter(new AuthFilter(sessionAuthService, observationRegistry));
         registrationBean.addUrlPatterns("/api/*");
         return registrationBean;
     }
+
+    // With spring.main.lazy-initialization (fast-startup profile) these are still created at startup:
+    // the pool and the background JPA bootstrap should not wait for the first request
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+        return (beanName, beanDefinition, beanType) -> DataSource.class.isAssignableFrom(beanType)
+                || AbstractEntityManagerFactoryBean.class.isAssignableFrom(beanType);
+    }
+
+    // Bounded pool for bulk Home jobs; parallelism caps how many chunk transactions run at once.
+    // With virtual threads the cap stays, since it protects the connection pool rather than the JVM.
+    @Bean
+    public ThreadPoolTaskExecutor homeJobExecutor(@Value("${jobs.home-price.parallelism:4}") int parallelism,
+                                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("home-job-").getVirtualThreadFactory());
+        } else {
+            executor.setThreadNamePrefix("home-job-");
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // Declaring homeJobExecutor switches off Boot's default executor, so it is declared here instead.
+    // The builders already follow spring.threads.virtual.enabled; MVC async requests run on this one.
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
 }
@@ -1,15 +1,27 @@
 package com.java.coreTemplate.config;
 
+import io.jsonwebtoken.JwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 public class AuthFilter implements Filter {
+    // Request attribute holding the authenticated user id, read by AccessLogFilter
+    public static final String AUTHENTICATED_USER = AuthFilter.class.getName() + ".user";
+
     private final SessionAuthService sessionAuthService;
+    private final ObservationRegistry observationRegistry;
 
     public AuthFilter(SessionAuthService sessionAuthService) {
+        this(sessionAuthService, ObservationRegistry.NOOP);
+    }
+
+    public AuthFilter(SessionAuthService sessionAuthService, ObservationRegistry observationRegistry) {
         this.sessionAuthService = sessionAuthService;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -18,6 +30,24 @@ public class AuthFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
+        // Only the credential check is timed as the "auth" stage, not the rest of the chain
+        String user = Observation.createNotStarted(TracingAspect.STAGE_OBSERVATION, observationRegistry)
+                .contextualName("auth")
+                .lowCardinalityKeyValue("stage", "auth")
+                .observe(() -> authenticate(httpRequest));
+
+        if (user != null) {
+            request.setAttribute(AUTHENTICATED_USER, user);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Authentication failed
+        httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+    }
+
+    // Returns the user id, or null when neither a valid JWT nor a valid session is present
+    private String authenticate(HttpServletRequest httpRequest) {
         // Check for JWT token in header
         String jwtToken = httpRequest.getHeader("Authorization");
 
@@ -27,18 +57,22 @@ public class AuthFilter implements Filter {
 
         if (jwtToken != null && jwtToken.startsWith("Bearer ")) {
             // JWT-based authentication
-            String token = jwtToken.substring(7);
-            if (JwtTokenUtil.validateToken(token)) {
-                chain.doFilter(request, response);
-                return;
-            }
+            return subjectOf(jwtToken.substring(7));
         } else if (sessionId != null && sessionAuthService.isValidSession(sessionId)) {
             // Session-based authentication
-            chain.doFilter(request, response);
-            return;
+            String user = sessionAuthService.getUserIdFromSession(sessionId);
+            return user != null ? user : "";
         }
+        return null;
+    }
 
-        // Authentication failed
-        httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+    // Parses the token once for both validation and the subject; null when invalid
+    private static String subjectOf(String token) {
+        try {
+            String subject = JwtTokenUtil.parseToken(token).getSubject();
+            return subject != null ? subject : "";
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.java.coreTemplate.config;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Caffeine stats counter that keeps the usual totals (which back the cache.gets metrics) and also
+ * tallies hits and misses on the current thread, so a request can report whether it was served
+ * from cache. Tallying only happens between {@link #begin()} and {@link #end()}.
+ */
+public class CacheOutcomeStatsCounter implements StatsCounter {
+
+    private static final ThreadLocal<int[]> TALLY = new ThreadLocal<>();
+
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+    public static void begin() {
+        TALLY.set(new int[2]);
+    }
+
+    /**
+     * Ends the tally and returns "hit", "miss", "partial" (both) or "none" (no cache lookups).
+     */
+    public static String end() {
+        int[] tally = TALLY.get();
+        TALLY.remove();
+        return tally != null ? outcome(tally[0], tally[1]) : "none";
+    }
+
+    /**
+     * Hits and misses tallied so far on this thread, or null outside begin/end.
+     */
+    static int[] currentTally() {
+        int[] tally = TALLY.get();
+        return tally != null ? tally.clone() : null;
+    }
+
+    static String outcome(int hits, int misses) {
+        if (hits == 0 && misses == 0) {
+            return "none";
+        }
+        if (misses == 0) {
+            return "hit";
+        }
+        return hits == 0 ? "miss" : "partial";
+    }
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+        int[] tally = TALLY.get();
+        if (tally != null) {
+            tally[0] += count;
+        }
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+        int[] tally = TALLY.get();
+        if (tally != null) {
+            tally[1] += count;
+        }
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+}
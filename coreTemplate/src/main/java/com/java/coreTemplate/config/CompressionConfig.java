@@ -0,0 +1,28 @@
+package com.java.coreTemplate.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Response compression for /api/*. Used instead of server.compression so encoders are pooled,
+ * the level is configurable and concurrent compression is capped by the pool size.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "compression", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(CompressionProperties.class)
+public class CompressionConfig {
+
+    // Inside the access log filter, outside everything that writes a body
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(CompressionProperties properties) {
+        FilterRegistrationBean<CompressionFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new CompressionFilter(properties));
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 110);
+        return registrationBean;
+    }
+}
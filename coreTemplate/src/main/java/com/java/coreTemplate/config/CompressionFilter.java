@@ -0,0 +1,418 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Gzip-compresses API responses for clients that accept it. The body is held back until
+ * min-response-size bytes have been written (or a Content-Length tells the size up front), so
+ * small responses keep their Content-Length and are sent unchanged. Responses that already carry
+ * a Content-Encoding, such as the pre-compressed ones from SerializedResponseCache, are passed through.
+ * A strong ETag gets a "-gzip" suffix on a compressed response, since the bytes differ from the
+ * identity representation it names; it stays strong so the client can send it back as If-Match.
+ * When a request goes async its body is written after this filter has returned, so the response is
+ * switched to pass-through rather than finished, and is sent uncompressed unless compression had
+ * already started.
+ */
+public class CompressionFilter implements Filter {
+
+    private final GzipEncoderPool encoders;
+    private final int minResponseSize;
+    private final Set<String> mimeTypes;
+
+    public CompressionFilter(CompressionProperties properties) {
+        this(properties, new GzipEncoderPool(properties.getEncoderPoolSize(), properties.getLevel()));
+    }
+
+    CompressionFilter(CompressionProperties properties, GzipEncoderPool encoders) {
+        this.encoders = encoders;
+        this.minResponseSize = (int) properties.getMinResponseSize().toBytes();
+        this.mimeTypes = properties.getMimeTypes().stream()
+                .map(type -> type.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if ("HEAD".equals(httpRequest.getMethod()) || !acceptsGzip(httpRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        CompressingResponse compressing = new CompressingResponse((HttpServletResponse) response);
+        try {
+            chain.doFilter(request, compressing);
+        } finally {
+            if (request.isAsyncStarted()) {
+                compressing.passThrough(request.getAsyncContext());
+            } else {
+                compressing.finish();
+            }
+        }
+    }
+
+    /** True when the Accept-Encoding header lists gzip without refusing it through q=0. */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return Arrays.stream(parts).skip(1).map(String::trim).noneMatch(p -> p.matches("q=0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
+
+    /** The strong tag of the gzip variant, "5" becomes "5-gzip"; MergePatchService.expectedVersion still reads 5. */
+    public static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    private boolean compressible(HttpServletResponse response) {
+        int status = response.getStatus();
+        if (status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = response.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mimeType = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        return mimeTypes.contains(mimeType.toLowerCase(Locale.ROOT));
+    }
+
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private CompressingStream stream;
+        private PrintWriter writer;
+        private long declaredLength = -1;
+        private boolean passThrough;
+
+        CompressingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        // Held back until the encoding is decided; a compressed body has no Content-Length
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (passThrough && stream == null) {
+                super.setContentLengthLong(length);
+                return;
+            }
+            if (stream != null && stream.state != State.BUFFERING) {
+                if (stream.state == State.IDENTITY) {
+                    super.setContentLengthLong(length);
+                }
+                return;
+            }
+            declaredLength = length;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            if (passThrough && stream == null) {
+                return super.getOutputStream();
+            }
+            if (stream == null) {
+                stream = new CompressingStream(this, (HttpServletResponse) getResponse());
+            }
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (passThrough && stream == null) {
+                return super.getWriter();
+            }
+            if (writer == null) {
+                if (stream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                stream = new CompressingStream(this, (HttpServletResponse) getResponse());
+                writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream == null || stream.state != State.BUFFERING) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (stream != null && stream.state == State.BUFFERING) {
+                stream.count = 0;
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            resetBuffer();
+            declaredLength = -1;
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.finish();
+            } else if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            }
+        }
+
+        // The async thread keeps writing after the filter returns: send what is held back as is, then get out of the way
+        void passThrough(AsyncContext asyncContext) throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.passThrough(asyncContext);
+            } else if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            }
+            passThrough = true;
+        }
+    }
+
+    private enum State { BUFFERING, IDENTITY, COMPRESSING, FINISHED }
+
+    private final class CompressingStream extends ServletOutputStream {
+
+        private final CompressingResponse wrapper;
+        private final HttpServletResponse response;
+        private State state = State.BUFFERING;
+        private byte[] buffer;
+        private int count;
+        private GzipEncoderPool.Encoder encoder;
+        private ServletOutputStream out;
+
+        CompressingStream(CompressingResponse wrapper, HttpServletResponse response) {
+            this.wrapper = wrapper;
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (state == State.BUFFERING && count == 0) {
+                decideEarly();
+            }
+            if (state == State.BUFFERING) {
+                if (count + length < minResponseSize) {
+                    buffer(bytes, offset, length);
+                    return;
+                }
+                start(true);
+            }
+            switch (state) {
+                case IDENTITY -> out.write(bytes, offset, length);
+                case COMPRESSING -> encoder.write(bytes, offset, length, out);
+                default -> throw new IOException("Response already finished");
+            }
+        }
+
+        // Headers are complete at the first write: settle what can be settled without buffering
+        private void decideEarly() throws IOException {
+            if (!compressible(response)) {
+                start(false);
+            } else if (wrapper.declaredLength >= 0) {
+                start(wrapper.declaredLength >= minResponseSize);
+            }
+        }
+
+        private void buffer(byte[] bytes, int offset, int length) {
+            if (buffer == null) {
+                buffer = new byte[Math.max(minResponseSize, 256)];
+            } else if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+            }
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        private void start(boolean compress) throws IOException {
+            encoder = compress ? encoders.acquire() : null;
+            if (encoder != null) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                varyByAcceptEncoding();
+                tagGzipVariant();
+                state = State.COMPRESSING;
+            } else {
+                if (compress) {
+                    // Pool exhausted: still vary, the next response for this URL may well be compressed
+                    varyByAcceptEncoding();
+                }
+                if (wrapper.declaredLength >= 0) {
+                    response.setContentLengthLong(wrapper.declaredLength);
+                }
+                state = State.IDENTITY;
+            }
+            out = response.getOutputStream();
+            if (count > 0) {
+                int buffered = count;
+                count = 0;
+                if (state == State.COMPRESSING) {
+                    encoder.write(buffer, 0, buffered, out);
+                } else {
+                    out.write(buffer, 0, buffered);
+                }
+            }
+            buffer = null;
+        }
+
+        // A strong ETag promises byte-identical bodies, which the gzip and identity forms are not
+        private void tagGzipVariant() {
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null && etag.startsWith("\"")) {
+                response.setHeader(HttpHeaders.ETAG, gzipETag(etag));
+            }
+        }
+
+        private void varyByAcceptEncoding() {
+            boolean present = response.getHeaders(HttpHeaders.VARY).stream()
+                    .anyMatch(vary -> vary.toLowerCase(Locale.ROOT).contains("accept-encoding"));
+            if (!present) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+        }
+
+        // While buffering a flush would commit the headers before the encoding is known, so it waits for finish()
+        @Override
+        public void flush() throws IOException {
+            if (state == State.IDENTITY || state == State.COMPRESSING) {
+                out.flush();
+            }
+        }
+
+        void passThrough(AsyncContext asyncContext) throws IOException {
+            if (state == State.BUFFERING) {
+                start(false);
+            } else if (state == State.COMPRESSING) {
+                // Already committed to gzip: the trailer can only be written once the async work completes
+                asyncContext.addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) throws IOException {
+                        finish();
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) throws IOException {
+                        finish();
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                if (state == State.BUFFERING) {
+                    // Ended below the threshold: send it as is, with its exact length
+                    response.setContentLength(count);
+                    out = response.getOutputStream();
+                    out.write(buffer != null ? buffer : new byte[0], 0, count);
+                    buffer = null;
+                } else if (state == State.COMPRESSING) {
+                    encoder.finish(out);
+                }
+            } finally {
+                if (encoder != null) {
+                    encoders.release(encoder);
+                    encoder = null;
+                }
+                state = State.FINISHED;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The container closes the real stream after the filter chain; finish() completes the body first
+            flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return out == null || out.isReady();
+        }
+
+        // Non-blocking writes go straight to the container's stream, uncompressed
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            if (state == State.BUFFERING) {
+                try {
+                    start(false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            if (state != State.IDENTITY) {
+                throw new IllegalStateException("Response is already being compressed");
+            }
+            out.setWriteListener(listener);
+        }
+    }
+}
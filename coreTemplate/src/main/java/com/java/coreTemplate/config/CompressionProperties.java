@@ -0,0 +1,32 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * Settings for gzip response compression done by {@link CompressionFilter} (compression.* in application*.yml).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compression")
+public class CompressionProperties {
+
+    private boolean enabled = true;
+
+    // Smaller bodies are sent as is: the gzip framing and the CPU are not worth it
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    // zlib level 1 (fastest) - 9 (smallest)
+    private int level = 5;
+
+    // Upper bound on responses compressed at once; beyond it responses go out uncompressed
+    private int encoderPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+    private List<String> mimeTypes = List.of(
+            "application/json", "application/problem+json", "text/plain", "text/html", "text/css",
+            "application/javascript", "application/xml", "application/cbor", "application/x-jackson-smile");
+}
@@ -0,0 +1,62 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.service.ResourceFingerprintService;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Conditional GET for the /api/v1 resources: ETag / Last-Modified validation before the handler
+ * runs, with collection fingerprints invalidated from Hibernate's post-commit events.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "conditional-get", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ResourceFingerprintService> fingerprints;
+
+    public ConditionalGetConfig(ObjectProvider<ResourceFingerprintService> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(fingerprints.getObject()))
+                .addPathPatterns("/api/v1/**");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer fingerprintInvalidationCustomizer() {
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                FingerprintInvalidationListener listener = new FingerprintInvalidationListener(fingerprints.getObject());
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+                registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+                registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -0,0 +1,149 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.service.ResourceFingerprintService;
+import com.java.coreTemplate.service.ResourceFingerprintService.Fingerprint;
+import jakarta.persistence.Id;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers conditional GET/HEAD requests on {@link ConditionalResource} controllers with 304 before
+ * the handler runs, so an unchanged resource is never loaded or serialized.
+ * Mappings with an {id} variable are validated against that row; everything else against the table.
+ * When the resource has changed the same ETag and Last-Modified are set on the full response.
+ * CBOR and Smile responses get their own ETag, so a tag cached for one format never validates another.
+ * The "-gzip" tag of a compressed response revalidates the same way as the plain one.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final List<MediaType> BINARY_FORMATS =
+            List.of(MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    private final ResourceFingerprintService fingerprints;
+    private final Map<Class<?>, Class<?>> idTypes = new ConcurrentHashMap<>();
+
+    public ConditionalGetInterceptor(ResourceFingerprintService fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalResource resource = AnnotatedElementUtils.findMergedAnnotation(
+                handlerMethod.getBeanType(), ConditionalResource.class);
+        if (resource == null) {
+            return true;
+        }
+
+        Optional<Fingerprint> fingerprint = fingerprint(resource.value(), request);
+        if (fingerprint.isEmpty()) {
+            return true;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        String etag = etag(fingerprint.get().etag(), request.getHeader(HttpHeaders.ACCEPT));
+        // A client holding the compressed variant revalidates with the tag CompressionFilter gave it
+        String gzipEtag = CompressionFilter.gzipETag(etag);
+        if (ifNoneMatch(request, gzipEtag)) {
+            etag = gzipEtag;
+        }
+        return !webRequest.checkNotModified(etag, fingerprint.get().lastModified());
+    }
+
+    private static boolean ifNoneMatch(HttpServletRequest request, String etag) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String tag : headers.nextElement().split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tags the fingerprint with the format the converters will pick for this Accept header: JSON keeps
+     * the plain tag, CBOR and Smile get a "-cbor" / "-x-jackson-smile" suffix inside the quotes.
+     */
+    static String etag(String etag, String accept) {
+        if (accept == null || accept.isBlank()) {
+            return etag;
+        }
+        List<MediaType> requested;
+        try {
+            requested = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return etag;
+        }
+        MimeTypeUtils.sortBySpecificity(requested);
+        for (MediaType type : requested) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            // JSON is the first converter, so */* and application/* get JSON
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return etag;
+            }
+            for (MediaType binary : BINARY_FORMATS) {
+                if (type.includes(binary)) {
+                    return etag.substring(0, etag.length() - 1) + "-" + binary.getSubtype() + "\"";
+                }
+            }
+        }
+        return etag;
+    }
+
+    private Optional<Fingerprint> fingerprint(Class<?> entityType, HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables != null ? variables.get("id") : null;
+        if (id == null) {
+            return Optional.of(fingerprints.collection(entityType));
+        }
+        try {
+            // Missing rows fall through so the handler produces its usual 404
+            Object typedId = DefaultConversionService.getSharedInstance().convert(id, idType(entityType));
+            return fingerprints.item(entityType, typedId);
+        } catch (ConversionException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Long for most entities, UUID for register/service/services
+    private Class<?> idType(Class<?> entityType) {
+        return idTypes.computeIfAbsent(entityType, type -> {
+            Class<?>[] idType = {Long.class};
+            ReflectionUtils.doWithFields(type, field -> idType[0] = field.getType(),
+                    field -> field.isAnnotationPresent(Id.class));
+            return idType[0];
+        });
+    }
+}
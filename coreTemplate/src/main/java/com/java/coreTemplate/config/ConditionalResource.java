@@ -0,0 +1,21 @@
+package com.java.coreTemplate.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller whose GET responses are backed by a single entity table, so
+ * {@link ConditionalGetInterceptor} can answer If-None-Match / If-Modified-Since from the table's
+ * version and updated_at columns before the handler runs.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalResource {
+
+    // Entity served by the controller; its @Table name is fingerprinted
+    Class<?> value();
+}
@@ -0,0 +1,67 @@
+package com.java.coreTemplate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a primary/replica pair behind a routing DataSource.
+ * Services annotated @Transactional(readOnly = true) read from the replica, everything else uses
+ * the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource-routing.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceRoutingProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(properties.getReplica().getUrl());
+        dataSource.setUsername(properties.getReplica().getUsername());
+        dataSource.setPassword(properties.getReplica().getPassword());
+        dataSource.setPoolName("ReplicaHikariPool");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingPolicy replicaRoutingPolicy(DataSourceRoutingProperties properties) {
+        return new ReplicaRoutingPolicy(properties);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource, ReplicaRoutingPolicy policy) {
+        return new ReplicaLagMonitor(replicaDataSource, policy);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 ReplicaRoutingPolicy policy) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(policy);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingPolicy.Route.PRIMARY, primaryDataSource,
+                ReplicaRoutingPolicy.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,37 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica routing settings (datasource-routing.* in application.yml). The primary keeps using
+ * spring.datasource; the replica pool is tuned through datasource-routing.replica.hikari.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    // Replica is bypassed while its replay lag is above this
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // After a client's write, its reads stay on the primary for this long plus the current lag
+    private Duration stickiness = Duration.ofSeconds(2);
+
+    private long lagCheckIntervalMs = 5000;
+
+    private Replica replica = new Replica();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
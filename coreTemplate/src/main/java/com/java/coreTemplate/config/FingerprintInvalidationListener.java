@@ -0,0 +1,57 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.service.ResourceFingerprintService;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Drops the cached collection fingerprint of a table once an entity write to it has committed.
+ * Bulk JPQL/native statements do not raise these events; their callers invalidate explicitly.
+ */
+public class FingerprintInvalidationListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final ResourceFingerprintService fingerprints;
+
+    public FingerprintInvalidationListener(ResourceFingerprintService fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        fingerprints.invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        fingerprints.invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        fingerprints.invalidate(event.getPersister().getMappedClass());
+    }
+
+    // Rolled back: the table did not change
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+package com.java.coreTemplate.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Bounded pool of gzip encoders. A Deflater holds a few hundred KB of native zlib state, so
+ * encoders are created lazily up to the pool size and reused after reset. When every encoder is
+ * busy {@link #acquire()} returns null and the caller sends the response uncompressed: at most
+ * size responses are compressed at once, whatever the request rate.
+ */
+public class GzipEncoderPool {
+
+    private final BlockingQueue<Encoder> idle;
+    private final AtomicInteger created = new AtomicInteger();
+    private final int size;
+    private final int level;
+
+    public GzipEncoderPool(int size, int level) {
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.size = size;
+        this.level = level;
+    }
+
+    public Encoder acquire() {
+        Encoder encoder = idle.poll();
+        if (encoder != null) {
+            return encoder;
+        }
+        while (true) {
+            int current = created.get();
+            if (current >= size) {
+                return null;
+            }
+            if (created.compareAndSet(current, current + 1)) {
+                return new Encoder(level);
+            }
+        }
+    }
+
+    public void release(Encoder encoder) {
+        encoder.reset();
+        idle.offer(encoder);
+    }
+
+    /**
+     * Raw deflate plus the gzip header and CRC32/length trailer, written straight to the target stream.
+     */
+    public static final class Encoder {
+
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final byte[] buffer = new byte[8192];
+        private boolean started;
+
+        Encoder(int level) {
+            this.deflater = new Deflater(level, true);
+        }
+
+        public void write(byte[] bytes, int offset, int length, OutputStream out) throws IOException {
+            if (!started) {
+                out.write(HEADER);
+                started = true;
+            }
+            crc.update(bytes, offset, length);
+            deflater.setInput(bytes, offset, length);
+            while (!deflater.needsInput()) {
+                drain(out);
+            }
+        }
+
+        public void finish(OutputStream out) throws IOException {
+            if (!started) {
+                out.write(HEADER);
+                started = true;
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain(out);
+            }
+            writeIntLE(out, (int) crc.getValue());
+            writeIntLE(out, (int) deflater.getBytesRead());
+        }
+
+        void reset() {
+            deflater.reset();
+            crc.reset();
+            started = false;
+        }
+
+        private void drain(OutputStream out) throws IOException {
+            int length = deflater.deflate(buffer, 0, buffer.length, Deflater.NO_FLUSH);
+            if (length > 0) {
+                out.write(buffer, 0, length);
+            }
+        }
+
+        private static void writeIntLE(OutputStream out, int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >>> 8) & 0xff);
+            out.write((value >>> 16) & 0xff);
+            out.write((value >>> 24) & 0xff);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.java.coreTemplate.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples each Hikari pool's active connections and waiting threads, and once per window works
+ * out how many connections the load actually needs: the mean in use plus headroom, never less
+ * than the peak demand seen, within pool-tuning bounds. The recommendation is logged and exposed
+ * as a gauge; with auto-apply it is set on the running pool, at most max-step per window.
+ */
+@Slf4j
+public class HikariPoolTuner {
+
+    private final PoolTuningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PoolWindow> pools = new LinkedHashMap<>();
+
+    public HikariPoolTuner(List<DataSource> dataSources, PoolTuningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (DataSource dataSource : dataSources) {
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikari != null && !pools.containsKey(hikari.getPoolName())) {
+                pools.put(hikari.getPoolName(), new PoolWindow(hikari));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${pool-tuning.sample-interval-ms:1000}")
+    public synchronized void sample() {
+        for (PoolWindow pool : pools.values()) {
+            HikariPoolMXBean mxBean = pool.dataSource.getHikariPoolMXBean();
+            if (mxBean == null) {
+                continue; // pool not started yet
+            }
+            pool.add(mxBean.getActiveConnections(), mxBean.getThreadsAwaitingConnection(),
+                    pool.dataSource.getMaximumPoolSize());
+            if (pool.samples >= properties.getWindowSamples()) {
+                evaluate(pool);
+            }
+        }
+    }
+
+    public synchronized List<PoolReport> reports() {
+        return pools.values().stream().map(pool -> pool.lastReport).filter(Objects::nonNull).toList();
+    }
+
+    private void evaluate(PoolWindow pool) {
+        String name = pool.dataSource.getPoolName();
+        int currentMax = pool.dataSource.getMaximumPoolSize();
+        double meanInUse = pool.activeSum / (double) pool.samples;
+        double saturation = pool.saturationSum / pool.samples;
+        double meanAcquireMs = pool.meanAcquireMillis(meterRegistry);
+        int recommended = recommend(meanInUse, pool.peakDemand, currentMax, properties);
+
+        pool.recommended = recommended;
+        pool.saturation = saturation;
+        pool.lastReport = new PoolReport(name, currentMax, recommended, meanInUse, pool.peakDemand, saturation, meanAcquireMs);
+
+        boolean saturated = saturation >= properties.getSaturationAlert();
+        boolean slowAcquire = meanAcquireMs >= properties.getAcquireAlert().toMillis();
+        if (saturated || slowAcquire) {
+            pool.alerts.increment();
+            log.warn("Pool {} saturated: {}", name, pool.lastReport);
+        } else if (recommended != currentMax) {
+            log.info("Pool {} sizing: {}", name, pool.lastReport);
+        }
+
+        if (properties.isAutoApply() && recommended != currentMax) {
+            HikariConfigMXBean config = pool.dataSource.getHikariConfigMXBean();
+            if (config.getMinimumIdle() > recommended) {
+                config.setMinimumIdle(recommended);
+            }
+            config.setMaximumPoolSize(recommended);
+            log.info("Pool {} maximum-pool-size {} -> {}", name, currentMax, recommended);
+        }
+        pool.reset();
+    }
+
+    static int recommend(double meanInUse, int peakDemand, int currentMax, PoolTuningProperties properties) {
+        int target = (int) Math.ceil(Math.max(meanInUse * (1 + properties.getHeadroom()), peakDemand));
+        target = Math.max(properties.getMinPoolSize(), Math.min(properties.getMaxPoolSize(), target));
+        if (target > currentMax) {
+            return Math.min(target, currentMax + properties.getMaxStep());
+        }
+        return Math.max(target, currentMax - properties.getMaxStep());
+    }
+
+    public record PoolReport(String pool, int maximumPoolSize, int recommendedPoolSize, double meanActive,
+                             int peakDemand, double saturation, double meanAcquireMs) {
+    }
+
+    private final class PoolWindow {
+        private final HikariDataSource dataSource;
+        private final Counter alerts;
+        private int samples;
+        private long activeSum;
+        private double saturationSum;
+        private int peakDemand;
+        private long acquireCount;
+        private double acquireTotalMs;
+        private volatile int recommended;
+        private volatile double saturation;
+        private PoolReport lastReport;
+
+        private PoolWindow(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.recommended = dataSource.getMaximumPoolSize();
+            String pool = dataSource.getPoolName();
+            Gauge.builder("hikaricp.pool.saturation", this, w -> w.saturation)
+                    .description("(active + waiting threads) / maximum-pool-size, averaged over the last window")
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+            Gauge.builder("hikaricp.pool.recommended.size", this, w -> w.recommended)
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+            this.alerts = Counter.builder("hikaricp.pool.saturation.alerts")
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+        }
+
+        private void add(int active, int waiting, int maximumPoolSize) {
+            samples++;
+            activeSum += active;
+            saturationSum += (active + waiting) / (double) Math.max(1, maximumPoolSize);
+            peakDemand = Math.max(peakDemand, active + waiting);
+        }
+
+        // Mean acquire time since the previous window, from Hikari's own Micrometer timer
+        private double meanAcquireMillis(MeterRegistry registry) {
+            Timer timer = registry.find("hikaricp.connections.acquire").tag("pool", dataSource.getPoolName()).timer();
+            if (timer == null) {
+                return 0;
+            }
+            long count = timer.count();
+            double totalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+            double mean = count > acquireCount ? (totalMs - acquireTotalMs) / (count - acquireCount) : 0;
+            acquireCount = count;
+            acquireTotalMs = totalMs;
+            return mean;
+        }
+
+        private void reset() {
+            samples = 0;
+            activeSum = 0;
+            saturationSum = 0;
+            peakDemand = 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.java.coreTemplate.config;
+
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves HTTP/2 next to HTTP/1.1 on the same port: h2 over TLS via ALPN, and h2c in clear text
+ * through prior knowledge or an Upgrade: h2c request, which is what local runs and the load tests
+ * use. A page's parallel API calls then share one multiplexed connection instead of queueing for
+ * the browser's handful of HTTP/1.1 connections. Used instead of server.http2.enabled, which would
+ * register a second, untuned upgrade protocol - leave that off.
+ */
+@Configuration
+@ConditionalOnClass(Http2Protocol.class)
+@ConditionalOnProperty(prefix = "http2", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(Http2Properties.class)
+public class Http2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer(Http2Properties properties) {
+        return factory -> factory.addConnectorCustomizers(
+                connector -> connector.addUpgradeProtocol(protocol(properties)));
+    }
+
+    private static Http2Protocol protocol(Http2Properties properties) {
+        Http2Protocol http2 = new Http2Protocol();
+        http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+        http2.setMaxConcurrentStreamExecution(properties.getMaxConcurrentStreamExecution());
+        http2.setInitialWindowSize(Math.toIntExact(properties.getInitialWindowSize().toBytes()));
+        http2.setKeepAliveTimeout(properties.getKeepAliveTimeout().toMillis());
+        http2.setReadTimeout(properties.getReadTimeout().toMillis());
+        http2.setWriteTimeout(properties.getWriteTimeout().toMillis());
+        return http2;
+    }
+}
@@ -0,0 +1,38 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * HTTP/2 on the embedded Tomcat connector set up by {@link Http2Config} (http2.* in application*.yml).
+ * Connection-level settings (threads, max connections, accept count, HTTP/1.1 keep-alive) stay
+ * under server.tomcat.*.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http2")
+public class Http2Properties {
+
+    private boolean enabled = true;
+
+    // Streams a client may have open on one connection; a page fans out well below this
+    private long maxConcurrentStreams = 128;
+
+    // Streams of one connection handed to request threads at once; the rest wait their turn
+    private int maxConcurrentStreamExecution = 32;
+
+    // Per-stream flow control window; the 64KB protocol default stalls large list pages on WINDOW_UPDATEs
+    private DataSize initialWindowSize = DataSize.ofKilobytes(256);
+
+    // Idle connection with no open streams
+    private Duration keepAliveTimeout = Duration.ofSeconds(20);
+
+    // Waiting for the rest of a frame once it has started
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    private Duration writeTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,41 @@
+package com.java.coreTemplate.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Metrics wiring beyond what actuator auto-configures. Repository timers
+ * (spring.data.repository.invocations), Hikari pool timers (hikaricp.connections.*) and
+ * cache hit/miss counters (cache.gets) come from Spring Boot once the caches are created up
+ * front with stats recording, see management.* and spring.cache.* in application.yml.
+ * The caching advice wraps the transaction advice, so a write's evictions run once it has committed;
+ * a read racing the commit can't put the old rows back under the new collection ETag.
+ */
+@Configuration
+@EnableCaching(order = MetricsConfig.CACHE_ADVICE_ORDER)
+public class MetricsConfig {
+
+    // One ahead of @EnableTransactionManagement's default, i.e. the outer proxy
+    static final int CACHE_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    public ControllerObservationConvention controllerObservationConvention() {
+        return new ControllerObservationConvention();
+    }
+
+    // Stats go through CacheOutcomeStatsCounter so the access log can report per-request cache hits
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheOutcomeCustomizer(CacheProperties cacheProperties) {
+        return cacheManager -> {
+            String spec = cacheProperties.getCaffeine().getSpec();
+            Caffeine<Object, Object> caffeine = spec != null ? Caffeine.from(spec) : Caffeine.newBuilder();
+            cacheManager.setCaffeine(caffeine.recordStats(CacheOutcomeStatsCounter::new));
+        };
+    }
+}
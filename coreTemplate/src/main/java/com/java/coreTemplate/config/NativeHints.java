@@ -0,0 +1,72 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.model.dto.*;
+import com.java.coreTemplate.model.entity.UserDetails;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Hints for the native image (mvn -Pnative native:compile) that Spring AOT cannot infer.
+ * JPA entities and controller payloads are picked up by AOT; what is listed here is reached by
+ * reflection or class name only: JSON types behind generic or actuator return values, jjwt's
+ * implementation classes (the API module loads them by name), datasource-proxy's JDK proxies and
+ * classpath resources read at runtime.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHints.class)
+@RegisterReflectionForBinding({
+        Advertise.class, Banner.class, Contact.class, Home.class, HomeLocation.class, HomePriceJob.class,
+        HomePriceJobChunk.class, HomePriceJobRequest.class, HomePriceJobStatus.class, Login.class,
+        LoginRequest.class, LoginResponse.class, Navbar.class, Register.class, RegistrationRequest.class,
+        com.java.coreTemplate.model.dto.Service.class, Testimonials.class, UserDetails.class,
+        SlowTraceRecorder.Trace.class, SlowTraceRecorder.Span.class, HikariPoolTuner.PoolReport.class})
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // SqlInspectionConfig wraps the DataSource; interface order matches JdkJdbcProxyFactory
+        for (Class<?> jdbcType : List.of(DataSource.class, Connection.class, Statement.class,
+                PreparedStatement.class, CallableStatement.class, ResultSet.class)) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+        }
+
+        hints.resources().registerPattern("geo/*.csv");
+        hints.resources().registerPattern("db/*.sql");
+    }
+}
@@ -0,0 +1,39 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for monthly created_at partitions (partitioning.* in application.yml).
+ * The tables must already be partitioned, see db/partitioning.sql.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "partitioning")
+public class PartitionProperties {
+
+    private boolean enabled = false;
+
+    private String cron = "0 0 2 * * *";
+
+    private List<String> tables = new ArrayList<>(List.of("contact", "register"));
+
+    // Monthly partitions created ahead of the current month
+    private int precreateMonths = 3;
+
+    // Months kept attached; older partitions are detached
+    private int retainMonths = 12;
+
+    // Detached partitions are moved here; set drop-detached to discard them instead
+    private String archiveSchema = "archive";
+
+    private boolean dropDetached = false;
+
+    // DETACH ... CONCURRENTLY avoids blocking queries on the parent (PostgreSQL 14+), but PostgreSQL
+    // rejects it while the parent has a DEFAULT partition, which db/partitioning.sql creates
+    private boolean detachConcurrently = false;
+}
@@ -0,0 +1,30 @@
+package com.java.coreTemplate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Hikari pool sizing monitor; covers every pool, including the replica when datasource-routing is on.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pool-tuning", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PoolTuningProperties.class)
+public class PoolTuningConfig {
+
+    @Bean
+    public HikariPoolTuner hikariPoolTuner(List<DataSource> dataSources, PoolTuningProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new HikariPoolTuner(dataSources, properties, meterRegistry);
+    }
+
+    @Bean
+    public PoolTuningEndpoint poolTuningEndpoint(HikariPoolTuner hikariPoolTuner) {
+        return new PoolTuningEndpoint(hikariPoolTuner);
+    }
+}
@@ -0,0 +1,24 @@
+package com.java.coreTemplate.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * /actuator/pooltuning: the last window per Hikari pool with its recommended maximum-pool-size.
+ */
+@Endpoint(id = "pooltuning")
+public class PoolTuningEndpoint {
+
+    private final HikariPoolTuner tuner;
+
+    public PoolTuningEndpoint(HikariPoolTuner tuner) {
+        this.tuner = tuner;
+    }
+
+    @ReadOperation
+    public List<HikariPoolTuner.PoolReport> pools() {
+        return tuner.reports();
+    }
+}
@@ -0,0 +1,43 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the Hikari pool sizing monitor (pool-tuning.* in application.yml).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pool-tuning")
+public class PoolTuningProperties {
+
+    private boolean enabled = true;
+
+    // Resize pools to the recommendation; otherwise it is only logged and exposed
+    private boolean autoApply = false;
+
+    private long sampleIntervalMs = 1000;
+
+    // Samples per evaluation window
+    private int windowSamples = 60;
+
+    // Bounds for recommended/applied maximum-pool-size
+    private int minPoolSize = 5;
+
+    private int maxPoolSize = 50;
+
+    // Spare capacity on top of the mean number of connections in use
+    private double headroom = 0.25;
+
+    // Largest change applied per window, so one spike cannot swing the pool
+    private int maxStep = 4;
+
+    // (active + waiting threads) / maximum-pool-size averaged over a window
+    private double saturationAlert = 0.9;
+
+    // Mean connection acquire time over a window
+    private Duration acquireAlert = Duration.ofMillis(50);
+}
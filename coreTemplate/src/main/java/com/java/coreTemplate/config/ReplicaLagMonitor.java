@@ -0,0 +1,42 @@
+package com.java.coreTemplate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag and feeds it to the routing policy.
+ * Note that pg_last_xact_replay_timestamp() only advances when the primary commits, so an idle
+ * primary reads as growing lag; that errs on the side of the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN pg_is_in_recovery() " +
+                    "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) " +
+                    "ELSE 0 END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaRoutingPolicy policy;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaRoutingPolicy policy) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.policy = policy;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        try {
+            Double lagMillis = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            policy.updateReplicaLag(Duration.ofMillis(lagMillis != null ? Math.max(0, lagMillis.longValue()) : 0));
+        } catch (DataAccessException e) {
+            log.debug("Replica lag check failed", e);
+            policy.markReplicaUnavailable();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.java.coreTemplate.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes each new connection by the read-only flag of the current transaction.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is fetched after the
+ * transaction manager has set that flag.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaRoutingPolicy policy;
+
+    public ReplicaRoutingDataSource(ReplicaRoutingPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Non-transactional access: use the primary without counting it as a client write
+            return ReplicaRoutingPolicy.Route.PRIMARY;
+        }
+        return policy.route(readOnly);
+    }
+}
@@ -0,0 +1,111 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a connection goes to the primary or the replica.
+ * Read-only transactions use the replica unless it is lagging or unreachable, or the calling client
+ * wrote recently (read-your-writes). Clients are identified by their session id or Authorization
+ * header, so no token parsing happens on the routing path.
+ */
+@Slf4j
+public class ReplicaRoutingPolicy {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSourceRoutingProperties properties;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaAvailable = true;
+    private volatile long replicaLagMillis;
+
+    public ReplicaRoutingPolicy(DataSourceRoutingProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    ReplicaRoutingPolicy(DataSourceRoutingProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public Route route(boolean readOnly, String clientKey) {
+        long now = clock.getAsLong();
+        if (!readOnly) {
+            if (clientKey != null) {
+                lastWriteByClient.put(clientKey, now);
+            }
+            return Route.PRIMARY;
+        }
+        if (!replicaAvailable || replicaLagMillis > properties.getMaxLag().toMillis()) {
+            return Route.PRIMARY;
+        }
+        if (clientKey != null) {
+            Long lastWrite = lastWriteByClient.get(clientKey);
+            if (lastWrite != null && now - lastWrite < stickinessMillis()) {
+                return Route.PRIMARY;
+            }
+        }
+        return Route.REPLICA;
+    }
+
+    public Route route(boolean readOnly) {
+        return route(readOnly, currentClientKey());
+    }
+
+    public void updateReplicaLag(Duration lag) {
+        boolean wasAvailable = replicaAvailable;
+        replicaLagMillis = lag.toMillis();
+        replicaAvailable = true;
+        if (!wasAvailable) {
+            log.info("Replica reachable again, lag {} ms", replicaLagMillis);
+        }
+        expireStickiness();
+    }
+
+    public void markReplicaUnavailable() {
+        if (replicaAvailable) {
+            log.warn("Replica unavailable, routing all reads to primary");
+        }
+        replicaAvailable = false;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+
+    private long stickinessMillis() {
+        return properties.getStickiness().toMillis() + replicaLagMillis;
+    }
+
+    private void expireStickiness() {
+        long cutoff = clock.getAsLong() - stickinessMillis();
+        lastWriteByClient.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+
+    private static String currentClientKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return session.getId();
+        }
+        return request.getHeader("Authorization");
+    }
+}
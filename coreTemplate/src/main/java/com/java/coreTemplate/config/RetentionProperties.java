@@ -0,0 +1,43 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the scheduled retention run (retention.* in application.yml).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    public enum Action { DELETE, ARCHIVE, DEACTIVATE }
+
+    private boolean enabled = false;
+
+    private String cron = "0 30 3 * * *";
+
+    // Rows touched per statement; keeps each transaction and its locks short
+    private int batchSize = 500;
+
+    // Pause between batches so replicas and vacuum can keep up
+    private Duration pauseBetweenBatches = Duration.ofMillis(200);
+
+    // Upper bound per policy per run; the remainder is picked up by the next run
+    private int maxBatchesPerRun = 1000;
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private boolean enabled = true;
+        private Action action = Action.DELETE;
+        private Duration retain = Duration.ofDays(365);
+    }
+}
@@ -0,0 +1,118 @@
+package com.java.coreTemplate.config;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Span exporter that keeps the last N slow traces in memory for /actuator/slowtraces.
+ * Child spans end (and are exported) before their root, so they wait in a bounded pending map
+ * until the root arrives; the whole trace is then kept if the root was slow and dropped otherwise.
+ * Runs on the batch span processor's thread, never on request threads.
+ */
+public class SlowTraceRecorder implements SpanExporter {
+
+    private final TracingProperties properties;
+    private final Map<String, List<SpanData>> pending;
+    private final Deque<Trace> slowTraces = new ArrayDeque<>();
+
+    public SlowTraceRecorder(TracingProperties properties) {
+        this.properties = properties;
+        this.pending = new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanData>> eldest) {
+                return size() > properties.getMaxPendingTraces();
+            }
+        };
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        long thresholdNanos = properties.getSlowThreshold().toNanos();
+        for (SpanData span : spans) {
+            if (!isRoot(span)) {
+                pending.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+                continue;
+            }
+            List<SpanData> children = pending.remove(span.getTraceId());
+            if (span.getEndEpochNanos() - span.getStartEpochNanos() >= thresholdNanos) {
+                keep(toTrace(span, children != null ? children : List.of()));
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public synchronized List<Trace> slowTraces() {
+        List<Trace> traces = new ArrayList<>(slowTraces);
+        traces.sort(Comparator.comparing(Trace::durationMs).reversed());
+        return traces;
+    }
+
+    public synchronized void clear() {
+        slowTraces.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        pending.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void keep(Trace trace) {
+        slowTraces.addLast(trace);
+        while (slowTraces.size() > properties.getCapacity()) {
+            slowTraces.removeFirst();
+        }
+    }
+
+    // A local root, or the first span in this process of a trace started upstream
+    private static boolean isRoot(SpanData span) {
+        return !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote();
+    }
+
+    private static Trace toTrace(SpanData root, List<SpanData> children) {
+        List<Span> spans = new ArrayList<>(children.size() + 1);
+        spans.add(toSpan(root, root));
+        children.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .forEach(child -> spans.add(toSpan(child, root)));
+        return new Trace(root.getTraceId(), root.getName(), root.getStartEpochNanos() / 1_000_000,
+                millis(root.getEndEpochNanos() - root.getStartEpochNanos()), spans);
+    }
+
+    private static Span toSpan(SpanData span, SpanData root) {
+        Map<String, String> attributes = new TreeMap<>();
+        span.getAttributes().forEach((AttributeKey<?> key, Object value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        String parentId = span == root ? null : span.getParentSpanId();
+        return new Span(span.getSpanId(), parentId, span.getName(),
+                millis(span.getStartEpochNanos() - root.getStartEpochNanos()),
+                millis(span.getEndEpochNanos() - span.getStartEpochNanos()), attributes);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Trace(String traceId, String name, long startEpochMs, double durationMs, List<Span> spans) {
+    }
+
+    public record Span(String spanId, String parentSpanId, String name, double offsetMs, double durationMs,
+                       Map<String, String> attributes) {
+    }
+}
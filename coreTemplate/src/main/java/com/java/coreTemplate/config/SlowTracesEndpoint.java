@@ -0,0 +1,31 @@
+package com.java.coreTemplate.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * /actuator/slowtraces: the slowest recent requests with their stage spans (auth, controller,
+ * service, repository, serialization), slowest first. Served on the management port only.
+ */
+@Endpoint(id = "slowtraces")
+public class SlowTracesEndpoint {
+
+    private final SlowTraceRecorder recorder;
+
+    public SlowTracesEndpoint(SlowTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<SlowTraceRecorder.Trace> slowTraces() {
+        return recorder.slowTraces();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.java.coreTemplate.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource so each statement is counted per request and timed.
+ * Only the "dataSource" bean is wrapped; with datasource-routing on that is the routing proxy,
+ * so the Hikari pools underneath stay unwrapped for their metrics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-inspection", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlInspectionProperties.class)
+public class SqlInspectionConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlInspectionDataSourcePostProcessor(ObjectProvider<SqlInspectionProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("sql-inspection")
+                            .listener(new SqlInspectionListener(properties.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlInspectionFilter> sqlInspectionFilter(SqlInspectionProperties properties) {
+        FilterRegistrationBean<SqlInspectionFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlInspectionFilter(properties));
+        registrationBean.addUrlPatterns("/api/*");
+        return registrationBean;
+    }
+}
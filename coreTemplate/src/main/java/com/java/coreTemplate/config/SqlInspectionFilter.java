@@ -0,0 +1,53 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Opens a statement recording around each API request and reports it when the request ran more
+ * statements than the budget or repeated the same statement shape (the usual N+1 signature).
+ */
+@Slf4j
+public class SqlInspectionFilter implements Filter {
+
+    private final SqlInspectionProperties properties;
+
+    public SqlInspectionFilter(SqlInspectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        SqlStatementRecorder.begin(httpRequest.getMethod() + " " + httpRequest.getRequestURI());
+        SqlStatementRecorder.Report report;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            report = SqlStatementRecorder.end();
+        }
+        if (report != null) {
+            check(report);
+        }
+    }
+
+    private void check(SqlStatementRecorder.Report report) {
+        List<SqlStatementRecorder.ShapeCount> repeated = report.repeatedAtLeast(properties.getRepeatedStatementThreshold());
+        boolean overBudget = report.statements() > properties.getStatementBudget();
+        if (!overBudget && repeated.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("%s ran %d statements in %d ms (budget %d); repeated shapes: %s",
+                report.label(), report.statements(), report.totalMillis(), properties.getStatementBudget(), repeated);
+        if (properties.isFailOnViolation()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
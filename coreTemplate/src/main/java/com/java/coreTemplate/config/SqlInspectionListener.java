@@ -0,0 +1,65 @@
+package com.java.coreTemplate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds every JDBC statement to {@link SqlStatementRecorder} and logs the slow ones.
+ * Bind values are never logged; the fingerprint is their types plus a hash of the values, which
+ * is enough to tell whether a slow statement keeps coming back with the same arguments.
+ */
+@Slf4j
+public class SqlInspectionListener implements QueryExecutionListener {
+
+    private final SqlInspectionProperties properties;
+
+    public SqlInspectionListener(SqlInspectionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        for (QueryInfo query : queryInfoList) {
+            SqlStatementRecorder.record(query.getQuery(), elapsed);
+        }
+        if (elapsed >= properties.getSlowQueryThreshold().toMillis()) {
+            for (QueryInfo query : queryInfoList) {
+                log.warn("Slow query {} ms (success={}, batch={}): {} binds={}", elapsed, execInfo.isSuccess(),
+                        execInfo.isBatch(), SqlStatementRecorder.shape(query.getQuery()), fingerprint(query));
+            }
+        }
+    }
+
+    static String fingerprint(QueryInfo query) {
+        return query.getParametersList().stream()
+                .map(SqlInspectionListener::fingerprint)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String fingerprint(List<ParameterSetOperation> parameters) {
+        StringBuilder types = new StringBuilder();
+        int hash = 1;
+        for (ParameterSetOperation parameter : parameters) {
+            Object[] args = parameter.getArgs();
+            Object value = args.length > 1 ? args[1] : null;
+            if (!types.isEmpty()) {
+                types.append(',');
+            }
+            types.append(value != null ? value.getClass().getSimpleName() : "null");
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+        return types + "#" + Integer.toHexString(hash);
+    }
+}
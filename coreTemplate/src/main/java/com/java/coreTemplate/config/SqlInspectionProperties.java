@@ -0,0 +1,30 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the per-request statement counter and slow-query log (sql-inspection.* in application.yml).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-inspection")
+public class SqlInspectionProperties {
+
+    private boolean enabled = true;
+
+    // Statements slower than this are logged with their shape and bind fingerprint
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    // Statements a single request may run before it is flagged
+    private int statementBudget = 50;
+
+    // The same statement shape this many times in one request is reported as a likely N+1
+    private int repeatedStatementThreshold = 5;
+
+    // Throw instead of logging when a request goes over budget or repeats a shape; meant for tests
+    private boolean failOnViolation = false;
+}
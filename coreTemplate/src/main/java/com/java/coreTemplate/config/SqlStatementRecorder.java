@@ -0,0 +1,83 @@
+package com.java.coreTemplate.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the statements run on the current thread between {@link #begin} and {@link #end}.
+ * Statements are grouped by shape: literals and IN lists are collapsed, so the lazy loads of an
+ * N+1 all land on one shape no matter which id they fetch.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementRecorder() {
+    }
+
+    public static void begin(String label) {
+        CURRENT.set(new Recording(label));
+    }
+
+    public static Report end() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording != null ? recording.report() : null;
+    }
+
+    static void record(String sql, long elapsedMillis) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(shape(sql), elapsedMillis);
+        }
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("IN (?+)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private static final class Recording {
+        private final String label;
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private int statements;
+        private long totalMillis;
+
+        private Recording(String label) {
+            this.label = label;
+        }
+
+        private void add(String shape, long elapsedMillis) {
+            countsByShape.merge(shape, 1, Integer::sum);
+            statements++;
+            totalMillis += elapsedMillis;
+        }
+
+        private Report report() {
+            List<ShapeCount> byCount = countsByShape.entrySet().stream()
+                    .map(e -> new ShapeCount(e.getKey(), e.getValue()))
+                    .sorted((a, b) -> Integer.compare(b.count(), a.count()))
+                    .toList();
+            return new Report(label, statements, totalMillis, byCount);
+        }
+    }
+
+    public record ShapeCount(String shape, int count) {
+    }
+
+    public record Report(String label, int statements, long totalMillis, List<ShapeCount> shapes) {
+
+        public List<ShapeCount> repeatedAtLeast(int threshold) {
+            return shapes.stream().filter(s -> s.count() >= threshold).toList();
+        }
+    }
+}
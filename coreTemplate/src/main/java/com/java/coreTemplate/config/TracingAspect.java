@@ -0,0 +1,68 @@
+package com.java.coreTemplate.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Opens a child span for every controller, service and repository call, matched by bean name.
+ * Ordered ahead of the cache and transaction advisors, so a service span covers its cache
+ * lookup and transaction, and is tagged with whether the cache answered.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    // One observation name for all stages; the stage key tells them apart
+    public static final String STAGE_OBSERVATION = "app.stage";
+
+    private final ObservationRegistry observationRegistry;
+
+    public TracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("bean(*Controller)")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "controller");
+    }
+
+    @Around("bean(*Service)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "service");
+    }
+
+    @Around("bean(*Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "repository");
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String stage) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        Observation observation = Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+                .contextualName(method)
+                .lowCardinalityKeyValue("stage", stage)
+                .highCardinalityKeyValue("method", method)
+                .start();
+        int[] cacheBefore = CacheOutcomeStatsCounter.currentTally();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            int[] cacheAfter = CacheOutcomeStatsCounter.currentTally();
+            if (cacheBefore != null && cacheAfter != null) {
+                observation.highCardinalityKeyValue("cache",
+                        CacheOutcomeStatsCounter.outcome(cacheAfter[0] - cacheBefore[0], cacheAfter[1] - cacheBefore[1]));
+            }
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.java.coreTemplate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stage spans for request tracing. The HTTP server span is Spring Boot's; AuthFilter, TracingAspect
+ * and the Jackson converter below add auth, controller/service/repository and serialization spans.
+ * Every span goes through SlowTraceRecorder, and to an OTLP collector when
+ * management.otlp.tracing.endpoint is set.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public TracingAspect tracingAspect(ObservationRegistry observationRegistry) {
+        return new TracingAspect(observationRegistry);
+    }
+
+    // Replaces Boot's default converter, which backs off when one is defined
+    @Bean
+    public ObservedJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                 ObservationRegistry observationRegistry) {
+        return new ObservedJacksonHttpMessageConverter(objectMapper, observationRegistry);
+    }
+
+    @Bean
+    public SlowTraceRecorder slowTraceRecorder(TracingProperties properties) {
+        return new SlowTraceRecorder(properties);
+    }
+
+    @Bean
+    public SlowTracesEndpoint slowTracesEndpoint(SlowTraceRecorder slowTraceRecorder) {
+        return new SlowTracesEndpoint(slowTraceRecorder);
+    }
+}
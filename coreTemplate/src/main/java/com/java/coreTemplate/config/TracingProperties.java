@@ -0,0 +1,26 @@
+package com.java.coreTemplate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process slow trace buffer behind /actuator/slowtraces (tracing.* in application.yml).
+ * Export to a collector is Spring Boot's management.otlp.tracing.* and is off unless an endpoint is set.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    // Root spans at least this long are kept with all of their child spans
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    // How many slow traces are kept; the oldest is dropped first
+    private int capacity = 50;
+
+    // Traces whose root span has not ended yet; bounds memory if roots never arrive
+    private int maxPendingTraces = 10_000;
+}
@@ -0,0 +1,63 @@
+package com.java.coreTemplate.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Binary alternatives to JSON for high-volume API clients, negotiated on every controller from the
+ * Accept header (application/cbor, application/x-jackson-smile) and accepted as request bodies with
+ * the same Content-Type. Both mappers come from Boot's builder, so property names, date formats and
+ * modules are exactly those of the JSON responses and a client can switch formats without remapping.
+ * Since the same URL answers in three formats, every API response varies by Accept.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    // Replace the converters Spring MVC would otherwise add with plain Jackson defaults
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // Ahead of the conditional GET check, so a 304 carries the header too
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new VaryByAccept())
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    static final class VaryByAccept implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            boolean present = response.getHeaders(HttpHeaders.VARY).stream()
+                    .flatMap(vary -> Arrays.stream(vary.split(",")))
+                    .anyMatch(vary -> vary.trim().toLowerCase(Locale.ROOT).equals("accept"));
+            if (!present) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+            return true;
+        }
+    }
+}
@@ -6,16 +6,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.AdvertiseService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Advertise;
+import com.java.coreTemplate.model.dto.AdvertiseSummary;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/advertise")
+@ConditionalResource(Advertise.class)
 public class AdvertiseController {
     private final AdvertiseService service;
+    private final FieldSelectionService fieldSelection;
 
-    public AdvertiseController(AdvertiseService service) {
+    public AdvertiseController(AdvertiseService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
 
     @PostMapping
@@ -32,12 +41,31 @@ public class AdvertiseController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Advertise>> getAll(
+    public ResponseEntity<Page<AdvertiseSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        Page<Advertise> advertises = service.findAll(pageable);
+        Page<AdvertiseSummary> advertises = service.findSummaries(pageable);
         return ResponseEntity.ok(advertises);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Advertise.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Advertise.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Advertise>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Advertise> update(
             @PathVariable Long id, 
@@ -79,11 +107,11 @@ public class AdvertiseController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Advertise>> search(
+    public ResponseEntity<Page<AdvertiseSummary>> search(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String category,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<Advertise> results = service.search(title, category, pageable);
+        Page<AdvertiseSummary> results = service.search(title, category, pageable);
         return ResponseEntity.ok(results);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.java.coreTemplate.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Services reject bad client input (unknown fields, invalid merge patches, oversized id batches)
+ * with IllegalArgumentException; this turns it into a 400 with the message as the body, so the
+ * controllers don't each catch it.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -6,15 +6,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.BannerService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.service.SerializedResponseCache;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.BannerSummary;
+import com.java.coreTemplate.service.MergePatchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/banners")
+@ConditionalResource(Banner.class)
 public class BannerController {
     private final BannerService service;
+    private final SerializedResponseCache responseCache;
+    private final FieldSelectionService fieldSelection;
     
-    public BannerController(BannerService service) {
+    public BannerController(BannerService service, SerializedResponseCache responseCache, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.responseCache = responseCache;
+        this.fieldSelection = fieldSelection;
     }
     
     @PostMapping
@@ -26,6 +42,20 @@ public class BannerController {
             .body(savedBanner);
     }
     
+    // Home page banners; served from pre-serialized bytes until a banner write evicts "banners"
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getActive(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return CachedJsonResponses.of(
+                responseCache.get("banners", "active", service::findAllActive), acceptEncoding);
+    }
+
+    // Clients asking for CBOR or Smile go through the message converters
+    @GetMapping("/active")
+    public ResponseEntity<List<Banner>> getActiveEncoded() {
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(service.findAllActive());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Banner> getById(@PathVariable Long id) {
         return service.findById(id)
@@ -34,11 +64,30 @@ public class BannerController {
     }
     
     @GetMapping
-    public ResponseEntity<Page<Banner>> getAll(
+    public ResponseEntity<Page<BannerSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findSummaries(pageable));
     }
     
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Banner.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Banner.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Banner>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Banner> update(
             @PathVariable Long id, 
@@ -50,19 +99,14 @@ public class BannerController {
         return ResponseEntity.ok(service.save(entity));
     }
     
-    @PatchMapping("/{id}")
-    public ResponseEntity<Banner> partialUpdate(
+    @PatchMapping(value = "/{id}", consumes = {MergePatchResponses.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> partialUpdate(
             @PathVariable Long id,
-            @RequestBody Banner partialEntity) {
-        return service.findById(id)
-            .map(existing -> {
-                if (partialEntity.getTitle() != null) {
-                    existing.setTitle(partialEntity.getTitle());
-                }
-                // Add other fields to update as needed
-                return ResponseEntity.ok(service.save(existing));
-            })
-            .orElse(ResponseEntity.notFound().build());
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        MergePatchService.Result result = service.patch(id, patch, MergePatchService.expectedVersion(ifMatch));
+        return MergePatchResponses.of(result, prefer, () -> service.findById(id));
     }
     
     @DeleteMapping("/{id}")
@@ -75,7 +119,7 @@ public class BannerController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<Page<Banner>> search(
+    public ResponseEntity<Page<BannerSummary>> search(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) Boolean active,
             @PageableDefault(size = 20) Pageable pageable) {
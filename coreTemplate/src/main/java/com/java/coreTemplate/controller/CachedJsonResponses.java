@@ -0,0 +1,28 @@
+package com.java.coreTemplate.controller;
+
+import com.java.coreTemplate.config.CompressionFilter;
+import com.java.coreTemplate.service.SerializedResponseCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Writes a {@link SerializedResponseCache.Body} as is: the byte[] goes through the byte array
+ * converter instead of Jackson, and the pre-compressed copy is sent to clients accepting gzip.
+ * The same URL serves CBOR and Smile through the converters, so the response varies by Accept too.
+ */
+final class CachedJsonResponses {
+
+    private CachedJsonResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(SerializedResponseCache.Body body, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && CompressionFilter.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+}
@@ -6,16 +6,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.ContactService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Contact;
+import com.java.coreTemplate.model.dto.ContactSummary;
+import com.java.coreTemplate.service.MergePatchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/contacts")
+@ConditionalResource(Contact.class)
 public class ContactController {
     private final ContactService service;
+    private final FieldSelectionService fieldSelection;
     
-    public ContactController(ContactService service) {
+    public ContactController(ContactService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
     
     @PostMapping
@@ -34,11 +47,30 @@ public class ContactController {
     }
     
     @GetMapping
-    public ResponseEntity<Page<Contact>> getAll(
-            @PageableDefault(size = 20, sort = "name") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+    public ResponseEntity<Page<ContactSummary>> getAll(
+            @PageableDefault(size = 20, sort = "lastName") Pageable pageable) {
+        return ResponseEntity.ok(service.findSummaries(pageable));
     }
     
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Contact.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "lastName") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Contact.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Contact>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Contact> update(
             @PathVariable Long id, 
@@ -50,13 +82,14 @@ public class ContactController {
         return ResponseEntity.ok(service.save(entity));
     }
     
-    @PatchMapping("/{id}")
-    public ResponseEntity<Contact> partialUpdate(
+    @PatchMapping(value = "/{id}", consumes = {MergePatchResponses.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> partialUpdate(
             @PathVariable Long id,
-            @RequestBody Contact partialEntity) {
-        return service.partialUpdate(id, partialEntity)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        MergePatchService.Result result = service.patch(id, patch, MergePatchService.expectedVersion(ifMatch));
+        return MergePatchResponses.of(result, prefer, () -> service.findById(id));
     }
     
     @DeleteMapping("/{id}")
@@ -69,7 +102,7 @@ public class ContactController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<Page<Contact>> search(
+    public ResponseEntity<Page<ContactSummary>> search(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String email,
             @PageableDefault(size = 20) Pageable pageable) {
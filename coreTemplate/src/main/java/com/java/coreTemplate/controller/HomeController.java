@@ -6,15 +6,28 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.HomeService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.HomeSummary;
+import com.java.coreTemplate.service.MergePatchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/homes")
+@ConditionalResource(Home.class)
 public class HomeController {
     private final HomeService service;
+    private final FieldSelectionService fieldSelection;
 
-    public HomeController(HomeService service) {
+    public HomeController(HomeService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
 
     @PostMapping
@@ -33,9 +46,28 @@ public class HomeController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Home>> getAll(
+    public ResponseEntity<Page<HomeSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findSummaries(pageable));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Home.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Home.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Home>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
     }
 
     @PutMapping("/{id}")
@@ -49,13 +81,14 @@ public class HomeController {
         return ResponseEntity.ok(service.save(entity));
     }
 
-    @PatchMapping("/{id}")
-    public ResponseEntity<Home> partialUpdate(
+    @PatchMapping(value = "/{id}", consumes = {MergePatchResponses.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> partialUpdate(
             @PathVariable Long id,
-            @RequestBody Home partialEntity) {
-        return service.partialUpdate(id, partialEntity)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        MergePatchService.Result result = service.patch(id, patch, MergePatchService.expectedVersion(ifMatch));
+        return MergePatchResponses.of(result, prefer, () -> service.findById(id));
     }
 
     @DeleteMapping("/{id}")
@@ -67,8 +100,29 @@ public class HomeController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<List<Home>> nearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") double radius,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (radius <= 0 || Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.findNearby(lat, lon, radius, minPrice, maxPrice, minBedrooms, limit));
+    }
+
+    @PostMapping("/geocode")
+    public ResponseEntity<Integer> backfillCoordinates(
+            @RequestParam(defaultValue = "500") int batchSize) {
+        return ResponseEntity.ok(service.backfillCoordinates(batchSize));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Page<Home>> search(
+    public ResponseEntity<Page<HomeSummary>> search(
             @RequestParam(required = false) String query,
             @PageableDefault(size = 20) Pageable pageable) {
         return ResponseEntity.ok(service.search(query, pageable));
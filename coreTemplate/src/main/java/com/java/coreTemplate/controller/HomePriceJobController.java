@@ -0,0 +1,48 @@
+package com.java.coreTemplate.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.java.coreTemplate.service.HomePriceJobService;
+import com.java.coreTemplate.model.dto.HomePriceJob;
+import com.java.coreTemplate.model.dto.HomePriceJobRequest;
+import com.java.coreTemplate.model.dto.HomePriceJobStatus;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/homes/price-jobs")
+public class HomePriceJobController {
+    private final HomePriceJobService service;
+
+    public HomePriceJobController(HomePriceJobService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public ResponseEntity<HomePriceJobStatus> create(@RequestBody HomePriceJobRequest request) {
+        if (request.percentageIncrease() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        HomePriceJob job = service.createJob(request.percentageIncrease(), request.chunkSize());
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/homes/price-jobs/" + job.getId()))
+                .body(service.getStatus(job.getId()).orElseThrow());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<HomePriceJobStatus> getStatus(@PathVariable Long id) {
+        return service.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<HomePriceJobStatus> resume(@PathVariable Long id) {
+        if (service.getStatus(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        service.start(id);
+        return ResponseEntity.accepted().body(service.getStatus(id).orElseThrow());
+    }
+}
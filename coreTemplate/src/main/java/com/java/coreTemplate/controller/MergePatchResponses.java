@@ -0,0 +1,42 @@
+package com.java.coreTemplate.controller;
+
+import com.java.coreTemplate.service.MergePatchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Maps a {@link MergePatchService.Result} onto the PATCH response shared by the resource controllers:
+ * 204 with the new ETag, 404, or 412 with the current ETag. The updated entity is only read back
+ * when the client asks for it with "Prefer: return=representation".
+ */
+final class MergePatchResponses {
+
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    private MergePatchResponses() {
+    }
+
+    static <T> ResponseEntity<?> of(MergePatchService.Result result, String prefer, Supplier<Optional<T>> reload) {
+        return switch (result.status()) {
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case PRECONDITION_FAILED -> ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                    .eTag(etag(result.version()))
+                    .build();
+            case APPLIED -> {
+                if (prefer != null && prefer.contains("return=representation")) {
+                    yield reload.get()
+                            .<ResponseEntity<?>>map(entity -> ResponseEntity.ok().eTag(etag(result.version())).body(entity))
+                            .orElse(ResponseEntity.notFound().build());
+                }
+                yield ResponseEntity.noContent().eTag(etag(result.version())).build();
+            }
+        };
+    }
+
+    private static String etag(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+}
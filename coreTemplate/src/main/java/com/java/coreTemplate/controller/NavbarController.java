@@ -2,20 +2,34 @@ package com.java.coreTemplate.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.NavbarService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.service.SerializedResponseCache;
+import org.springframework.http.HttpHeaders;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.model.dto.NavbarSummary;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/navbar")
+@ConditionalResource(Navbar.class)
 public class NavbarController {
     private final NavbarService service;
+    private final SerializedResponseCache responseCache;
+    private final FieldSelectionService fieldSelection;
     
-    public NavbarController(NavbarService service) {
+    public NavbarController(NavbarService service, SerializedResponseCache responseCache, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.responseCache = responseCache;
+        this.fieldSelection = fieldSelection;
     }
     
     @PostMapping
@@ -26,6 +40,20 @@ public class NavbarController {
                 .body(savedEntity);
     }
     
+    // Rendered on every page; served from pre-serialized bytes until a navbar write evicts "navbars"
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getActive(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return CachedJsonResponses.of(
+                responseCache.get("navbars", "active", service::findAllActive), acceptEncoding);
+    }
+
+    // Clients asking for CBOR or Smile go through the message converters
+    @GetMapping("/active")
+    public ResponseEntity<List<Navbar>> getActiveEncoded() {
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(service.findAllActive());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Navbar> getById(@PathVariable Long id) {
         return service.findById(id)
@@ -34,11 +62,30 @@ public class NavbarController {
     }
     
     @GetMapping
-    public ResponseEntity<Page<Navbar>> getAll(
+    public ResponseEntity<Page<NavbarSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findSummaries(pageable));
     }
     
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Navbar.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Navbar.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Navbar>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Navbar> update(
             @PathVariable Long id, 
@@ -69,7 +116,7 @@ public class NavbarController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<Page<Navbar>> search(
+    public ResponseEntity<Page<NavbarSummary>> search(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) Boolean isActive,
             @PageableDefault(size = 20) Pageable pageable) {
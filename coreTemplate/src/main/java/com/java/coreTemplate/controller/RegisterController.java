@@ -6,15 +6,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import com.java.coreTemplate.service.RegisterService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Register;
+import com.java.coreTemplate.model.dto.RegisterSummary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/register")
+@ConditionalResource(Register.class)
 public class RegisterController {
     private final RegisterService service;
+    private final FieldSelectionService fieldSelection;
 
-    public RegisterController(RegisterService service) {
+    public RegisterController(RegisterService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
 
     @PostMapping
@@ -24,20 +34,42 @@ public class RegisterController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Register> getById(@PathVariable Long id) {
+    public ResponseEntity<Register> getById(@PathVariable UUID id) {
         return service.findById(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    public ResponseEntity<Page<Register>> getAll(Pageable pageable) {
-        Page<Register> registers = service.findAll(pageable);
+    public ResponseEntity<Page<RegisterSummary>> getAll(Pageable pageable) {
+        Page<RegisterSummary> registers = service.findSummaries(pageable);
         return ResponseEntity.ok(registers);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable UUID id, @RequestParam String fields) {
+        return fieldSelection.findById(Register.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Register.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<RegisterSummary>> getByIds(@RequestParam List<UUID> ids) {
+        // Same rows as the list endpoint; the batch path caches entities, so map them here
+        return ResponseEntity.ok(service.findAllById(ids).stream()
+                .map(RegisterController::summary)
+                .toList());
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Register> update(@PathVariable Long id, @RequestBody Register entity) {
+    public ResponseEntity<Register> update(@PathVariable UUID id, @RequestBody Register entity) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
@@ -47,7 +79,7 @@ public class RegisterController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
@@ -56,10 +88,15 @@ public class RegisterController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Register>> search(
+    public ResponseEntity<Page<RegisterSummary>> search(
             @RequestParam(required = false) String query,
             Pageable pageable) {
-        Page<Register> results = service.search(query, pageable);
+        Page<RegisterSummary> results = service.search(query, pageable);
         return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+
+    private static RegisterSummary summary(Register register) {
+        return new RegisterSummary(register.getId(), register.getUsername(), register.getEmail(),
+                register.isVerified(), register.isActive(), register.getVersion());
+    }
+}
@@ -0,0 +1,22 @@
+package com.java.coreTemplate.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.java.coreTemplate.service.RetentionService;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/retention")
+public class RetentionController {
+    private final RetentionService service;
+
+    public RetentionController(RetentionService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Integer>> run() {
+        return ResponseEntity.ok(service.runAll());
+    }
+}
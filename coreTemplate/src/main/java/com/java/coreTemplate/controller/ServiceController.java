@@ -8,17 +8,26 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import com.java.coreTemplate.service.ServiceService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Service;
+import com.java.coreTemplate.model.dto.ServiceSummary;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/service")
+@ConditionalResource(Service.class)
 public class ServiceController {
     private final ServiceService service;
+    private final FieldSelectionService fieldSelection;
     
-    public ServiceController(ServiceService service) {
+    public ServiceController(ServiceService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
     
     @PostMapping
@@ -33,21 +42,40 @@ public class ServiceController {
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Service> getById(@PathVariable Long id) {
+    public ResponseEntity<Service> getById(@PathVariable UUID id) {
         return service.findById(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping
-    public ResponseEntity<Page<Service>> getAll(
+    public ResponseEntity<Page<ServiceSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(service.findSummaries(pageable));
     }
     
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable UUID id, @RequestParam String fields) {
+        return fieldSelection.findById(Service.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Service.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Service>> getByIds(@RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Service> update(
-            @PathVariable Long id, 
+            @PathVariable UUID id, 
             @RequestBody Service entity) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
@@ -58,7 +86,7 @@ public class ServiceController {
     
     @PatchMapping("/{id}")
     public ResponseEntity<Service> partialUpdate(
-            @PathVariable Long id,
+            @PathVariable UUID id,
             @RequestBody Service partialEntity) {
         return service.partialUpdate(id, partialEntity)
             .map(ResponseEntity::ok)
@@ -67,7 +95,7 @@ public class ServiceController {
     
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
@@ -76,7 +104,7 @@ public class ServiceController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<Page<Service>> search(
+    public ResponseEntity<Page<ServiceSummary>> search(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String description,
             @PageableDefault(size = 20) Pageable pageable) {
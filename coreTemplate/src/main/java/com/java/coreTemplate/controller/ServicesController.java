@@ -7,15 +7,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.ServicesService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Services;
+import com.java.coreTemplate.model.dto.ServiceSummary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/services")
+@ConditionalResource(Services.class)
 public class ServicesController {
     private final ServicesService service;
+    private final FieldSelectionService fieldSelection;
 
-    public ServicesController(ServicesService service) {
+    public ServicesController(ServicesService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
 
     @PostMapping
@@ -26,22 +36,41 @@ public class ServicesController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Services> getById(@PathVariable Long id) {
+    public ResponseEntity<Services> getById(@PathVariable UUID id) {
         return service.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    public ResponseEntity<Page<Services>> getAll(
+    public ResponseEntity<Page<ServiceSummary>> getAll(
             @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        Page<Services> servicesPage = service.findAll(pageable);
+        Page<ServiceSummary> servicesPage = service.findSummaries(pageable);
         return ResponseEntity.ok(servicesPage);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable UUID id, @RequestParam String fields) {
+        return fieldSelection.findById(Services.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(fieldSelection.findAll(Services.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Services>> getByIds(@RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Services> update(
-            @PathVariable Long id, 
+            @PathVariable UUID id, 
             @RequestBody Services entity) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
@@ -52,7 +81,7 @@ public class ServicesController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
         if (!service.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
@@ -61,10 +90,10 @@ public class ServicesController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Services>> search(
+    public ResponseEntity<Page<ServiceSummary>> search(
             @RequestParam(required = false) String name,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<Services> results = service.searchByName(name, pageable);
+        Page<ServiceSummary> results = service.searchByName(name, pageable);
         return ResponseEntity.ok(results);
     }
 }
\ No newline at end of file
@@ -7,17 +7,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import com.java.coreTemplate.service.TestimonialsService;
+import com.java.coreTemplate.service.FieldSelectionService;
+import com.java.coreTemplate.config.ConditionalResource;
 import com.java.coreTemplate.model.dto.Testimonials;
+import com.java.coreTemplate.model.dto.TestimonialSummary;
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/testimonials")
+@ConditionalResource(Testimonials.class)
 public class TestimonialsController {
     
     private final TestimonialsService service;
+    private final FieldSelectionService fieldSelection;
     
-    public TestimonialsController(TestimonialsService service) {
+    public TestimonialsController(TestimonialsService service, FieldSelectionService fieldSelection) {
         this.service = service;
+        this.fieldSelection = fieldSelection;
     }
 
     @PostMapping
@@ -36,9 +45,28 @@ public class TestimonialsController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Testimonials>> getAll(
+    public ResponseEntity<Page<TestimonialSummary>> getAll(
+            @PageableDefault(size = 20, sort = "createdAt,desc") Pageable pageable) {
+        return ResponseEntity.ok(service.findSummaries(pageable));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return fieldSelection.findById(Testimonials.class, id, fields)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllFields(
+            @RequestParam String fields,
             @PageableDefault(size = 20, sort = "createdAt,desc") Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+        return ResponseEntity.ok(fieldSelection.findAll(Testimonials.class, fields, pageable));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Testimonials>> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.findAllById(ids));
     }
 
     @PutMapping("/{id}")
@@ -62,13 +90,13 @@ public class TestimonialsController {
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<Page<Testimonials>> getFeaturedTestimonials(
+    public ResponseEntity<Page<TestimonialSummary>> getFeaturedTestimonials(
             @PageableDefault(size = 5) Pageable pageable) {
         return ResponseEntity.ok(service.findFeaturedTestimonials(pageable));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Testimonials>> searchTestimonials(
+    public ResponseEntity<Page<TestimonialSummary>> searchTestimonials(
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 10) Pageable pageable) {
         return ResponseEntity.ok(service.searchTestimonials(keyword, pageable));
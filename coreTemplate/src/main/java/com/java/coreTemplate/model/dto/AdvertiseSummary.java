@@ -0,0 +1,9 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Advertisement list and search row, selected by a constructor query so the page never loads the
+ * description or attaches a managed Advertise. The version lets clients PATCH with If-Match.
+ */
+public record AdvertiseSummary(Long id, String title, Double price, boolean featured,
+                               boolean active, Long version) {
+}
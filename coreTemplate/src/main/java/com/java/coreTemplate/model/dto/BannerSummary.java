@@ -0,0 +1,9 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Read-only row of the banner list and search endpoints, built by a constructor query so no managed
+ * Banner or dirty-check snapshot is created per row. The version lets clients PATCH with If-Match.
+ */
+public record BannerSummary(Long id, String name, String imageUrl, String targetUrl,
+                            boolean active, Integer displayOrder, Long version) {
+}
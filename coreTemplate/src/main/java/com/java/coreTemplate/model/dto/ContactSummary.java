@@ -0,0 +1,8 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Contact list and search row: the columns the list shows plus the version used for If-Match.
+ */
+public record ContactSummary(Long id, String firstName, String lastName, String email,
+                             String phoneNumber, boolean active, Long version) {
+}
@@ -2,11 +2,12 @@ package com.java.coreTemplate.model.dto;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "home")
 @Getter
 @Setter
@@ -15,8 +16,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Home {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
 
     @Column(name = "name", nullable = false, length = 100)
     private String name;
@@ -24,6 +25,16 @@ public class Home {
     @Column(name = "address", length = 255)
     private String address;
 
+    @Column(name = "zip_code", length = 10)
+    private String zipCode;
+
+    // Populated from the local zip-centroid dataset, see ZipCentroidService
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "price", nullable = false)
     private Double price;
 
@@ -0,0 +1,13 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Lightweight projection of a geocoded Home, held by the in-memory geo index.
+ * Price and bedrooms are carried along so radius searches can filter without a DB round trip.
+ */
+public record HomeLocation(Long id, Double latitude, Double longitude, Double price, Integer bedrooms) {
+
+    public static HomeLocation of(Home home) {
+        return new HomeLocation(home.getId(), home.getLatitude(), home.getLongitude(),
+                home.getPrice(), home.getBedrooms());
+    }
+}
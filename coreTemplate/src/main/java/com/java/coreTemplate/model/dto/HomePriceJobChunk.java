@@ -0,0 +1,49 @@
+package com.java.coreTemplate.model.dto;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * One id range [startId, endId) of a HomePriceJob. A chunk is claimed (RUNNING) and marked COMPLETED
+ * in the same transaction as its price update, so a crashed job can be resumed without
+ * double-applying and two instances never reprice the same range.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "home_price_job_chunk",
+        indexes = @Index(name = "idx_home_price_job_chunk_job_status", columnList = "job_id, status"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class HomePriceJobChunk {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private Long jobId;
+
+    @Column(name = "start_id", nullable = false, updatable = false)
+    private Long startId;
+
+    @Column(name = "end_id", nullable = false, updatable = false)
+    private Long endId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "updated_rows")
+    private Integer updatedRows;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,6 @@
+package com.java.coreTemplate.model.dto;
+
+public record HomePriceJobStatus(Long jobId, HomePriceJob.Status status, double percentageIncrease,
+                                 int totalChunks, long completedChunks, long failedChunks,
+                                 long updatedRows, String lastError) {
+}
@@ -0,0 +1,10 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Row of the home list and search pages. Selected as a constructor expression, so a page of homes
+ * is never attached to the persistence context; geo columns stay in {@link HomeLocation}.
+ */
+public record HomeSummary(Long id, String name, String address, String zipCode, Double price,
+                          Integer bedrooms, Integer bathrooms, Integer squareFootage,
+                          boolean forSale, Long version) {
+}
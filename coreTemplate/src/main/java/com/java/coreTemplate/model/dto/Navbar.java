@@ -2,10 +2,12 @@ package com.java.coreTemplate.model.dto;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 
 @Entity
+@DynamicUpdate
 @Table(name = "navbar")
 @Getter
 @Setter
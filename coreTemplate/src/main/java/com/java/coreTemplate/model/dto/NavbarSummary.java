@@ -0,0 +1,8 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Navbar list and search row: the columns a menu editor shows plus the version used for If-Match.
+ */
+public record NavbarSummary(Long id, String name, String url, Integer displayOrder,
+                            boolean active, boolean external, Long version) {
+}
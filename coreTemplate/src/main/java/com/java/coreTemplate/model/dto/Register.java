@@ -1,12 +1,15 @@
 package com.java.coreTemplate.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "register")
 @Getter
 @Setter
@@ -25,6 +28,8 @@ public class Register {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
 
+    // Accepted on create/update but never written back, so no response or ?fields= selection carries it
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(name = "password_hash", nullable = false, length = 255)
     private String passwordHash;
 
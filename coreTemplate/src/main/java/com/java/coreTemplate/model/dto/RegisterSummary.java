@@ -0,0 +1,11 @@
+package com.java.coreTemplate.model.dto;
+
+import java.util.UUID;
+
+/**
+ * Registration list and search row. The password hash is deliberately not selected, so it can't
+ * leak through the list endpoints the way serializing the entity would.
+ */
+public record RegisterSummary(UUID id, String username, String email, boolean verified,
+                              boolean active, Long version) {
+}
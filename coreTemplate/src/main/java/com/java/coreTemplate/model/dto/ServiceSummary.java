@@ -0,0 +1,11 @@
+package com.java.coreTemplate.model.dto;
+
+import java.util.UUID;
+
+/**
+ * List and search row shared by the service and services tables, which have the same columns.
+ * Built by a constructor query, so no managed entity is created per row.
+ */
+public record ServiceSummary(UUID id, String name, Double price, boolean premium,
+                             boolean active, Long version) {
+}
@@ -0,0 +1,9 @@
+package com.java.coreTemplate.model.dto;
+
+/**
+ * Testimonial list, featured and search row, built by a constructor query so no managed
+ * Testimonials or dirty-check snapshot is created per row. The version lets clients PATCH with If-Match.
+ */
+public record TestimonialSummary(Long id, String authorName, String authorTitle, String content,
+                                 Integer rating, boolean featured, boolean approved, Long version) {
+}
@@ -2,11 +2,13 @@ package com.java.coreTemplate.model.dto;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Entity
+@DynamicUpdate
 @Table(name = "testimonials")
 @Getter
 @Setter
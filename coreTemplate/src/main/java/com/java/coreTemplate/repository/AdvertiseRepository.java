@@ -4,6 +4,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Advertise;
+import com.java.coreTemplate.model.dto.AdvertiseSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,9 +39,21 @@ public interface AdvertiseRepository extends JpaRepository<Advertise, Long> {
     List<Advertise> fullTextSearch(@Param("searchTerm") String searchTerm);
 
     // Projection query returning only specific fields
-    @Query("SELECT new com.java.coreTemplate.model.dto.AdvertiseSummary(a.id, a.title, a.price) FROM Advertise a WHERE a.price <= :maxPrice")
+    @Query("SELECT new com.java.coreTemplate.model.dto.AdvertiseSummary(a.id, a.title, a.price, a.isFeatured, " +
+            "a.isActive, a.version) FROM Advertise a WHERE a.price <= :maxPrice")
     List<AdvertiseSummary> findSummariesByMaxPrice(@Param("maxPrice") double maxPrice);
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.AdvertiseSummary(a.id, a.title, a.price, a.isFeatured, " +
+            "a.isActive, a.version) FROM Advertise a",
+            countQuery = "SELECT COUNT(a) FROM Advertise a")
+    Page<AdvertiseSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.AdvertiseSummary(a.id, a.title, a.price, a.isFeatured, " +
+            "a.isActive, a.version) FROM Advertise a WHERE LOWER(a.title) LIKE :titlePattern",
+            countQuery = "SELECT COUNT(a) FROM Advertise a WHERE LOWER(a.title) LIKE :titlePattern")
+    Page<AdvertiseSummary> searchSummaries(@Param("titlePattern") String titlePattern, Pageable pageable);
+
     // Update query (modifying)
     @Modifying
     @Query("UPDATE Advertise a SET a.views = a.views + 1 WHERE a.id = :id")
@@ -4,6 +4,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.BannerSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -40,10 +43,25 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
             @Param("isActive") Boolean isActive);
 
     // Projection query returning only specific fields
-    @Query("SELECT new com.java.coreTemplate.model.dto.BannerSummary(b.id, b.title, b.priority) " +
-            "FROM Banner b WHERE b.isActive = true")
+    @Query("SELECT new com.java.coreTemplate.model.dto.BannerSummary(b.id, b.name, b.imageUrl, b.targetUrl, " +
+            "b.isActive, b.displayOrder, b.version) FROM Banner b WHERE b.isActive = true ORDER BY b.displayOrder")
     List<BannerSummary> findActiveBannerSummaries();
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.BannerSummary(b.id, b.name, b.imageUrl, b.targetUrl, " +
+            "b.isActive, b.displayOrder, b.version) FROM Banner b",
+            countQuery = "SELECT COUNT(b) FROM Banner b")
+    Page<BannerSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.BannerSummary(b.id, b.name, b.imageUrl, b.targetUrl, " +
+            "b.isActive, b.displayOrder, b.version) FROM Banner b " +
+            "WHERE LOWER(b.name) LIKE :namePattern AND (:active IS NULL OR b.isActive = :active)",
+            countQuery = "SELECT COUNT(b) FROM Banner b " +
+                    "WHERE LOWER(b.name) LIKE :namePattern AND (:active IS NULL OR b.isActive = :active)")
+    Page<BannerSummary> searchSummaries(@Param("namePattern") String namePattern,
+                                        @Param("active") Boolean active,
+                                        Pageable pageable);
+
     // Find by multiple conditions using JPA Criteria API through method name
     List<Banner> findByIsActiveAndPriorityBetweenAndStartDateBeforeAndEndDateAfter(
             boolean isActive, int minPriority, int maxPriority, 
@@ -51,11 +69,27 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
 
     // Update query using @Modifying
     @Modifying
-    @Query("UPDATE Banner b SET b.isActive = :isActive WHERE b.id = :id")
+    @Query("UPDATE Banner b SET b.isActive = :isActive, b.version = b.version + 1, b.updatedAt = LOCAL DATETIME WHERE b.id = :id")
     int updateActiveStatus(@Param("id") Long id, @Param("isActive") boolean isActive);
 
     // Delete inactive banners older than specific date
     @Modifying
     @Query("DELETE FROM Banner b WHERE b.isActive = false AND b.endDate < :cutoffDate")
     int deleteInactiveBannersOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // Bounded-batch variants used by RetentionService; each call touches at most batchSize rows
+    @Modifying
+    @Query(value = "DELETE FROM banner WHERE id IN (" +
+            "SELECT id FROM banner WHERE is_active = false AND end_date < :cutoffDate ORDER BY id LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteInactiveBannersOlderThanBatch(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                            @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM banner WHERE id IN (" +
+            "SELECT id FROM banner WHERE is_active = false AND end_date < :cutoffDate ORDER BY id LIMIT :batchSize) " +
+            "RETURNING *) INSERT INTO banner_archive SELECT * FROM moved",
+            nativeQuery = true)
+    int archiveInactiveBannersOlderThanBatch(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                             @Param("batchSize") int batchSize);
 }
\ No newline at end of file
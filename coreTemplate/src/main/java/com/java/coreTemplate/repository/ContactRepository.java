@@ -4,7 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Contact;
+import com.java.coreTemplate.model.dto.ContactSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,9 +30,14 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     @Query("SELECT c FROM Contact c JOIN FETCH c.addresses WHERE c.id = :id")
     Optional<Contact> findByIdWithAddresses(@Param("id") Long id);
 
-    // Native query for complex operations
-    @Query(value = "SELECT * FROM contacts WHERE created_at > CURRENT_DATE - INTERVAL '30 days'", nativeQuery = true)
-    List<Contact> findRecentContacts();
+    // Native query for complex operations.
+    // Compares the raw partition key against a bound value so only the recent monthly partitions are scanned.
+    @Query(value = "SELECT * FROM contact WHERE created_at >= :since ORDER BY created_at DESC", nativeQuery = true)
+    List<Contact> findCreatedSince(@Param("since") LocalDateTime since);
+
+    default List<Contact> findRecentContacts() {
+        return findCreatedSince(LocalDateTime.now().minusDays(30));
+    }
 
     // Projection interface for partial data retrieval
     <T> List<T> findByLastName(String lastName, Class<T> type);
@@ -36,6 +45,23 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     // Dynamic sorting with method name
     List<Contact> findByFirstNameContainingIgnoreCaseOrderByLastNameAsc(String firstName);
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ContactSummary(c.id, c.firstName, c.lastName, c.email, " +
+            "c.phoneNumber, c.isActive, c.version) FROM Contact c",
+            countQuery = "SELECT COUNT(c) FROM Contact c")
+    Page<ContactSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ContactSummary(c.id, c.firstName, c.lastName, c.email, " +
+            "c.phoneNumber, c.isActive, c.version) FROM Contact c " +
+            "WHERE (LOWER(c.firstName) LIKE :namePattern OR LOWER(c.lastName) LIKE :namePattern) " +
+            "AND (:emailPattern IS NULL OR LOWER(c.email) LIKE :emailPattern)",
+            countQuery = "SELECT COUNT(c) FROM Contact c " +
+                    "WHERE (LOWER(c.firstName) LIKE :namePattern OR LOWER(c.lastName) LIKE :namePattern) " +
+                    "AND (:emailPattern IS NULL OR LOWER(c.email) LIKE :emailPattern)")
+    Page<ContactSummary> searchSummaries(@Param("namePattern") String namePattern,
+                                         @Param("emailPattern") String emailPattern,
+                                         Pageable pageable);
+
     // Using JPA Specifications for complex criteria
     // (Would need to extend JpaSpecificationExecutor<Contact> in the interface declaration)
     // List<Contact> findAll(Specification<Contact> spec);
@@ -0,0 +1,45 @@
+package com.java.coreTemplate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.java.coreTemplate.model.dto.HomePriceJobChunk;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HomePriceJobChunkRepository extends JpaRepository<HomePriceJobChunk, Long> {
+
+    // Chunks that still have to run (pending, or failed on a previous attempt)
+    List<HomePriceJobChunk> findByJobIdAndStatusNotOrderByStartId(Long jobId, HomePriceJobChunk.Status status);
+
+    long countByJobIdAndStatus(Long jobId, HomePriceJobChunk.Status status);
+
+    @Query("SELECT COALESCE(SUM(c.updatedRows), 0) FROM HomePriceJobChunk c WHERE c.jobId = :jobId AND c.status = 'COMPLETED'")
+    long sumUpdatedRows(@Param("jobId") Long jobId);
+
+    // Claims a pending chunk for the calling transaction; 0 when another worker already has it or
+    // it is done. The row lock is held until commit, so a concurrent claim waits and then sees it taken
+    @Modifying
+    @Query("UPDATE HomePriceJobChunk c SET c.status = 'RUNNING' WHERE c.id = :id AND c.status = 'PENDING'")
+    int claimChunk(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE HomePriceJobChunk c SET c.status = :status, c.updatedRows = :updatedRows, " +
+            "c.completedAt = :completedAt WHERE c.id = :id")
+    int markChunk(@Param("id") Long id,
+                  @Param("status") HomePriceJobChunk.Status status,
+                  @Param("updatedRows") Integer updatedRows,
+                  @Param("completedAt") LocalDateTime completedAt);
+
+    // Only a chunk nobody has claimed since the failed attempt rolled back; never overwrites COMPLETED
+    @Modifying
+    @Query("UPDATE HomePriceJobChunk c SET c.status = 'FAILED' WHERE c.id = :id AND c.status = 'PENDING'")
+    int failChunk(@Param("id") Long id);
+
+    // Reset failed chunks so a resumed job retries them
+    @Modifying
+    @Query("UPDATE HomePriceJobChunk c SET c.status = 'PENDING' WHERE c.jobId = :jobId AND c.status = 'FAILED'")
+    int resetFailedChunks(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,13 @@
+package com.java.coreTemplate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.java.coreTemplate.model.dto.HomePriceJob;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HomePriceJobRepository extends JpaRepository<HomePriceJob, Long> {
+
+    // Jobs left unfinished by a previous run, picked up again on startup
+    List<HomePriceJob> findByStatusIn(Collection<HomePriceJob.Status> statuses);
+}
@@ -1,9 +1,14 @@
 package com.java.coreTemplate.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.model.dto.HomeSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,9 +41,23 @@ public interface HomeRepository extends JpaRepository<Home, Long> {
     Optional<Home> findByIdWithAmenities(@Param("id") Long id);
 
     // Using record projection
-    @Query("SELECT new com.java.coreTemplate.model.dto.HomeSummary(h.id, h.address, h.price) FROM Home h WHERE h.price < :maxPrice")
+    @Query("SELECT new com.java.coreTemplate.model.dto.HomeSummary(h.id, h.name, h.address, h.zipCode, h.price, " +
+            "h.bedrooms, h.bathrooms, h.squareFootage, h.isForSale, h.version) FROM Home h WHERE h.price < :maxPrice")
     List<HomeSummary> findHomeSummariesBelowPrice(@Param("maxPrice") double maxPrice);
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.HomeSummary(h.id, h.name, h.address, h.zipCode, h.price, " +
+            "h.bedrooms, h.bathrooms, h.squareFootage, h.isForSale, h.version) FROM Home h",
+            countQuery = "SELECT COUNT(h) FROM Home h")
+    Page<HomeSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.HomeSummary(h.id, h.name, h.address, h.zipCode, h.price, " +
+            "h.bedrooms, h.bathrooms, h.squareFootage, h.isForSale, h.version) FROM Home h " +
+            "WHERE LOWER(h.name) LIKE :pattern OR LOWER(h.address) LIKE :pattern OR h.zipCode LIKE :pattern",
+            countQuery = "SELECT COUNT(h) FROM Home h " +
+                    "WHERE LOWER(h.name) LIKE :pattern OR LOWER(h.address) LIKE :pattern OR h.zipCode LIKE :pattern")
+    Page<HomeSummary> searchSummaries(@Param("pattern") String pattern, Pageable pageable);
+
     // Dynamic sorting with method name
     List<Home> findByOrderByPriceDesc();
     List<Home> findByOrderBySquareFootageAsc();
@@ -47,8 +66,33 @@ public interface HomeRepository extends JpaRepository<Home, Long> {
     @Query("SELECT h FROM Home h WHERE EXISTS (SELECT 1 FROM h.amenities a WHERE a.name = :amenityName)")
     List<Home> findHomesWithSpecificAmenity(@Param("amenityName") String amenityName);
 
+    // Coordinates of every geocoded active home, used to build the in-memory geo index
+    @Query("SELECT new com.java.coreTemplate.model.dto.HomeLocation(h.id, h.latitude, h.longitude, h.price, h.bedrooms) " +
+            "FROM Home h WHERE h.isActive = true AND h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<HomeLocation> findActiveLocations();
+
+    // Next batch of homes still waiting for coordinates, keyset-paged by id so resolved and
+    // unresolvable rows alike are passed exactly once
+    @Query("SELECT h FROM Home h WHERE h.id > :lastId AND h.latitude IS NULL AND h.zipCode IS NOT NULL ORDER BY h.id")
+    List<Home> findUngeocodedAfter(@Param("lastId") long lastId, Pageable pageable);
+
     // Update query with @Modifying
     @Modifying
-    @Query("UPDATE Home h SET h.price = h.price * (1 + :percentageIncrease/100) WHERE h.id IN :ids")
+    @Query("UPDATE Home h SET h.price = h.price * (1 + :percentageIncrease/100), " +
+            "h.version = h.version + 1, h.updatedAt = LOCAL DATETIME WHERE h.id IN :ids")
     int bulkUpdatePrice(@Param("ids") List<Long> ids, @Param("percentageIncrease") double percentageIncrease);
+
+    // Id-range variant used by HomePriceJobService, one bounded chunk per transaction
+    @Modifying
+    @Query("UPDATE Home h SET h.price = h.price * (1 + :percentageIncrease/100), " +
+            "h.version = h.version + 1, h.updatedAt = LOCAL DATETIME WHERE h.id >= :startId AND h.id < :endId")
+    int bulkUpdatePriceInRange(@Param("startId") Long startId,
+                               @Param("endId") Long endId,
+                               @Param("percentageIncrease") double percentageIncrease);
+
+    @Query("SELECT MIN(h.id) FROM Home h")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(h.id) FROM Home h")
+    Optional<Long> findMaxId();
 }
\ No newline at end of file
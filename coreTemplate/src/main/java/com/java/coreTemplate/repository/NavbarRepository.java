@@ -4,6 +4,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.model.dto.NavbarSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +29,21 @@ public interface NavbarRepository extends JpaRepository<Navbar, Long> {
     @Query("SELECT n.id, n.title, n.path FROM Navbar n WHERE n.type = :type AND n.isActive = true")
     List<Object[]> findActiveNavbarItemsByType(@Param("type") String type);
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.NavbarSummary(n.id, n.name, n.url, n.displayOrder, " +
+            "n.isActive, n.isExternal, n.version) FROM Navbar n",
+            countQuery = "SELECT COUNT(n) FROM Navbar n")
+    Page<NavbarSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.NavbarSummary(n.id, n.name, n.url, n.displayOrder, " +
+            "n.isActive, n.isExternal, n.version) FROM Navbar n " +
+            "WHERE LOWER(n.name) LIKE :namePattern AND (:active IS NULL OR n.isActive = :active)",
+            countQuery = "SELECT COUNT(n) FROM Navbar n " +
+                    "WHERE LOWER(n.name) LIKE :namePattern AND (:active IS NULL OR n.isActive = :active)")
+    Page<NavbarSummary> searchSummaries(@Param("namePattern") String namePattern,
+                                        @Param("active") Boolean active,
+                                        Pageable pageable);
+
     // Find navbar items with path containing a specific string
     List<Navbar> findByPathContaining(String pathSegment);
 
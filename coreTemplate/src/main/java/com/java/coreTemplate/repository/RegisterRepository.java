@@ -4,12 +4,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Register;
+import com.java.coreTemplate.model.dto.RegisterSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface RegisterRepository extends JpaRepository<Register, Long> {
+public interface RegisterRepository extends JpaRepository<Register, UUID> {
 
     // Find by email using derived query method
     Optional<Register> findByEmail(String email);
@@ -30,19 +34,40 @@ public interface RegisterRepository extends JpaRepository<Register, Long> {
     @Query("SELECT r FROM Register r JOIN r.user u WHERE u.status = :status")
     List<Register> findAllByUserStatus(@Param("status") String status);
 
-    // Native query for complex operations
-    @Query(value = "SELECT * FROM registers WHERE created_at BETWEEN :start AND :end", nativeQuery = true)
+    // Native query for complex operations.
+    // Bounded on both sides of the partition key so the planner prunes to the months in range.
+    @Query(value = "SELECT * FROM register WHERE created_at >= :start AND created_at <= :end", nativeQuery = true)
     List<Register> findBetweenDates(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     // Projection query returning only specific fields
     @Query("SELECT r.email, r.username FROM Register r WHERE r.active = true")
     List<Object[]> findActiveRegistrationsEmailAndUsername();
 
+    // List and search pages as read-only records; the password hash is never selected
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.RegisterSummary(r.id, r.username, r.email, " +
+            "r.isVerified, r.isActive, r.version) FROM Register r",
+            countQuery = "SELECT COUNT(r) FROM Register r")
+    Page<RegisterSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.RegisterSummary(r.id, r.username, r.email, " +
+            "r.isVerified, r.isActive, r.version) FROM Register r " +
+            "WHERE LOWER(r.username) LIKE :pattern OR LOWER(r.email) LIKE :pattern",
+            countQuery = "SELECT COUNT(r) FROM Register r " +
+                    "WHERE LOWER(r.username) LIKE :pattern OR LOWER(r.email) LIKE :pattern")
+    Page<RegisterSummary> searchSummaries(@Param("pattern") String pattern, Pageable pageable);
+
     // Update query (modifying query)
     @Modifying
     @Query("UPDATE Register r SET r.active = false WHERE r.createdAt < :date")
     int deactivateOldRegistrations(@Param("date") LocalDateTime date);
 
+    // Bounded-batch variant used by RetentionService; each call touches at most batchSize rows
+    @Modifying
+    @Query(value = "UPDATE register SET is_active = false, updated_at = now(), version = version + 1 WHERE id IN (" +
+            "SELECT id FROM register WHERE is_active = true AND created_at < :date ORDER BY id LIMIT :batchSize)",
+            nativeQuery = true)
+    int deactivateOldRegistrationsBatch(@Param("date") LocalDateTime date, @Param("batchSize") int batchSize);
+
     // Exists query
     boolean existsByEmail(String email);
 
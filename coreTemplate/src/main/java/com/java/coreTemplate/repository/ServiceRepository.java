@@ -4,11 +4,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.java.coreTemplate.model.dto.Service;
+import com.java.coreTemplate.model.dto.ServiceSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface ServiceRepository extends JpaRepository<Service, Long> {
+public interface ServiceRepository extends JpaRepository<Service, UUID> {
 
     // Derived query method to find services by name (case-insensitive)
     List<Service> findByNameContainingIgnoreCase(String name);
@@ -36,14 +40,47 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
     @Query("DELETE FROM Service s WHERE s.active = false AND s.createdAt < :cutoffDate")
     int deleteInactiveServicesOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
 
+    // Bounded-batch variants used by RetentionService; each call touches at most batchSize rows
+    @Modifying
+    @Query(value = "DELETE FROM service WHERE id IN (" +
+            "SELECT id FROM service WHERE is_active = false AND created_at < :cutoffDate ORDER BY id LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteInactiveServicesOlderThanBatch(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                             @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM service WHERE id IN (" +
+            "SELECT id FROM service WHERE is_active = false AND created_at < :cutoffDate ORDER BY id LIMIT :batchSize) " +
+            "RETURNING *) INSERT INTO service_archive SELECT * FROM moved",
+            nativeQuery = true)
+    int archiveInactiveServicesOlderThanBatch(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                              @Param("batchSize") int batchSize);
+
     // Stream support for large result sets
     @Query("SELECT s FROM Service s WHERE s.category = :category")
     Stream<Service> streamAllByCategory(@Param("category") String category);
 
     // Entity graph for optimized loading
     @EntityGraph(attributePaths = {"dependencies", "provider"})
-    Optional<Service> findWithDependenciesById(Long id);
+    Optional<Service> findWithDependenciesById(UUID id);
 
     // Dynamic sorting with Pageable
     Page<Service> findByActiveTrue(Pageable pageable);
+
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ServiceSummary(s.id, s.name, s.price, s.isPremium, " +
+            "s.isActive, s.version) FROM Service s",
+            countQuery = "SELECT COUNT(s) FROM Service s")
+    Page<ServiceSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ServiceSummary(s.id, s.name, s.price, s.isPremium, " +
+            "s.isActive, s.version) FROM Service s " +
+            "WHERE LOWER(s.name) LIKE :namePattern " +
+            "AND (:descriptionPattern IS NULL OR LOWER(s.description) LIKE :descriptionPattern)",
+            countQuery = "SELECT COUNT(s) FROM Service s " +
+                    "WHERE LOWER(s.name) LIKE :namePattern " +
+                    "AND (:descriptionPattern IS NULL OR LOWER(s.description) LIKE :descriptionPattern)")
+    Page<ServiceSummary> searchSummaries(@Param("namePattern") String namePattern,
+                                         @Param("descriptionPattern") String descriptionPattern,
+                                         Pageable pageable);
 }
\ No newline at end of file
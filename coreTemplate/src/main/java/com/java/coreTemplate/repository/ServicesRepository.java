@@ -3,12 +3,16 @@ package com.java.coreTemplate.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.java.coreTemplate.model.dto.ServiceSummary;
 import com.java.coreTemplate.model.dto.Services;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface ServicesRepository extends JpaRepository<Services, Long> {
+public interface ServicesRepository extends JpaRepository<Services, UUID> {
 
     // Find by name using derived query method
     Optional<Services> findByName(String name);
@@ -30,11 +34,22 @@ public interface ServicesRepository extends JpaRepository<Services, Long> {
             @Param("minPrice") double minPrice, 
             @Param("maxPrice") double maxPrice);
 
+    // List and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ServiceSummary(s.id, s.name, s.price, s.isPremium, " +
+            "s.isActive, s.version) FROM Services s",
+            countQuery = "SELECT COUNT(s) FROM Services s")
+    Page<ServiceSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.ServiceSummary(s.id, s.name, s.price, s.isPremium, " +
+            "s.isActive, s.version) FROM Services s WHERE LOWER(s.name) LIKE :namePattern",
+            countQuery = "SELECT COUNT(s) FROM Services s WHERE LOWER(s.name) LIKE :namePattern")
+    Page<ServiceSummary> searchSummaries(@Param("namePattern") String namePattern, Pageable pageable);
+
     // Exists check with modern syntax
     boolean existsByNameAndCategory(String name, String category);
 
     // Update method using @Modifying
     @Modifying
-    @Query("UPDATE Services s SET s.isActive = :status WHERE s.id = :id")
-    int updateServiceStatus(@Param("id") Long id, @Param("status") boolean status);
+    @Query("UPDATE Services s SET s.isActive = :status, s.version = s.version + 1, s.updatedAt = INSTANT WHERE s.id = :id")
+    int updateServiceStatus(@Param("id") UUID id, @Param("status") boolean status);
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.java.coreTemplate.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.java.coreTemplate.model.dto.TestimonialSummary;
 import com.java.coreTemplate.model.dto.Testimonials;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +33,25 @@ public interface TestimonialsRepository extends JpaRepository<Testimonials, Long
     @Query("SELECT t FROM Testimonials t ORDER BY t.rating DESC LIMIT 5")
     List<Testimonials> findTopRated();
 
+    // List, featured and search pages as read-only records; nothing is attached to the persistence context
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.TestimonialSummary(t.id, t.authorName, t.authorTitle, " +
+            "t.content, t.rating, t.isFeatured, t.isApproved, t.version) FROM Testimonials t",
+            countQuery = "SELECT COUNT(t) FROM Testimonials t")
+    Page<TestimonialSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.TestimonialSummary(t.id, t.authorName, t.authorTitle, " +
+            "t.content, t.rating, t.isFeatured, t.isApproved, t.version) FROM Testimonials t " +
+            "WHERE t.isFeatured = true AND t.isApproved = true",
+            countQuery = "SELECT COUNT(t) FROM Testimonials t WHERE t.isFeatured = true AND t.isApproved = true")
+    Page<TestimonialSummary> findFeaturedSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.java.coreTemplate.model.dto.TestimonialSummary(t.id, t.authorName, t.authorTitle, " +
+            "t.content, t.rating, t.isFeatured, t.isApproved, t.version) FROM Testimonials t " +
+            "WHERE LOWER(t.content) LIKE :pattern OR LOWER(t.authorName) LIKE :pattern",
+            countQuery = "SELECT COUNT(t) FROM Testimonials t " +
+                    "WHERE LOWER(t.content) LIKE :pattern OR LOWER(t.authorName) LIKE :pattern")
+    Page<TestimonialSummary> searchSummaries(@Param("pattern") String pattern, Pageable pageable);
+
     // Count testimonials by approval status
     long countByApproved(boolean approved);
 
@@ -8,7 +8,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.java.coreTemplate.repository.AdvertiseRepository;
 import com.java.coreTemplate.model.dto.Advertise;
+import com.java.coreTemplate.model.dto.AdvertiseSummary;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -16,9 +18,11 @@ import java.util.Optional;
 public class AdvertiseService {
 
     private final AdvertiseRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public AdvertiseService(AdvertiseRepository repository) {
+    public AdvertiseService(AdvertiseRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -32,19 +36,29 @@ public class AdvertiseService {
         return repository.findById(id);
     }
 
-    @Cacheable("advertisements")
+    public List<Advertise> findAllById(List<Long> ids) {
+        return batchLookup.findAll("advertisements", ids, repository::findAllById, Advertise::getId);
+    }
+
+    @Cacheable(value = "advertisements", key = "'active'")
     public List<Advertise> findAllActive() {
         return repository.findByIsActiveTrue();
     }
 
     @Transactional
-    @CacheEvict(value = "advertisements", key = "#id")
+    @CacheEvict(value = "advertisements", allEntries = true)
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
-    public Page<Advertise> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<AdvertiseSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    // Advertisements have no category column, so only the title filter narrows the page
+    public Page<AdvertiseSummary> search(String title, String category, Pageable pageable) {
+        String titlePattern = title == null || title.isBlank() ? "%" : "%" + title.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(titlePattern, pageable);
     }
 
     public List<Advertise> findByTitleContaining(String keyword) {
@@ -52,7 +66,7 @@ public class AdvertiseService {
     }
 
     @Transactional
-    @CacheEvict(value = "advertisements", key = "#id")
+    @CacheEvict(value = "advertisements", allEntries = true)
     public Advertise update(Long id, Advertise updatedAdvertise) {
         return repository.findById(id)
                 .map(existingAdvertise -> {
@@ -8,7 +8,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.java.coreTemplate.repository.BannerRepository;
 import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.BannerSummary;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -16,9 +19,14 @@ import java.util.Optional;
 public class BannerService {
 
     private final BannerRepository repository;
+    private final MergePatchService mergePatchService;
+    private final BatchLookupService batchLookup;
 
-    public BannerService(BannerRepository repository) {
+    public BannerService(BannerRepository repository, MergePatchService mergePatchService,
+                         BatchLookupService batchLookup) {
         this.repository = repository;
+        this.mergePatchService = mergePatchService;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -32,13 +40,23 @@ public class BannerService {
         return repository.findById(id);
     }
 
-    @Cacheable("banners")
+    public List<Banner> findAllById(List<Long> ids) {
+        return batchLookup.findAll("banners", ids, repository::findAllById, Banner::getId);
+    }
+
+    @Cacheable(value = "banners", key = "'all'")
     public List<Banner> findAll() {
         return repository.findAll();
     }
 
-    public Page<Banner> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<BannerSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    // Banners have no title column; the title filter matches the name
+    public Page<BannerSummary> search(String title, Boolean active, Pageable pageable) {
+        String namePattern = title == null || title.isBlank() ? "%" : "%" + title.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(namePattern, active, pageable);
     }
 
     public List<Banner> findAllActive() {
@@ -46,7 +64,7 @@ public class BannerService {
     }
 
     @Transactional
-    @CacheEvict(value = "banners", key = "#id")
+    @CacheEvict(value = "banners", allEntries = true)
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
@@ -65,6 +83,12 @@ public class BannerService {
                 .orElseThrow(() -> new RuntimeException("Banner not found with id: " + id));
     }
 
+    @Transactional
+    @CacheEvict(value = "banners", allEntries = true)
+    public MergePatchService.Result patch(Long id, JsonNode patch, Long expectedVersion) {
+        return mergePatchService.apply(Banner.class, id, patch, expectedVersion);
+    }
+
     public List<Banner> findByTitleContaining(String keyword) {
         return repository.findByTitleContainingIgnoreCase(keyword);
     }
@@ -0,0 +1,119 @@
+package com.java.coreTemplate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves {@code ?ids=1,2,3} against the entity cache that {@code findById} fills: one bulk
+ * lookup for all ids, one IN query for whatever was not cached, and the loaded rows (and ids
+ * without a row) are put back so the next single or batch read is a hit. Results follow the
+ * requested order; unknown ids are left out and repeated ids are returned once.
+ * <p>
+ * The IN query runs outside the cache, so a write can clear it while old rows are being loaded.
+ * As in {@link SerializedResponseCache}, a generation marker that every clear() drops decides
+ * whether the loaded rows may be stored.
+ */
+@Service
+public class BatchLookupService {
+
+    /** Key of the generation marker; a fresh marker object is stored after each clear(). */
+    private record GenerationKey() {
+    }
+
+    private static final GenerationKey GENERATION = new GenerationKey();
+
+    private final CacheManager cacheManager;
+    private final int maxIds;
+
+    public BatchLookupService(CacheManager cacheManager, @Value("${batch-get.max-ids:100}") int maxIds) {
+        this.cacheManager = cacheManager;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * @param cacheName cache that {@code findById} stores the entity in under its id; a resource
+     *                  without one goes straight to the loader. Every other method caching there
+     *                  must use a key that can never equal an id (e.g. {@code 'active'} or
+     *                  {@code 'parent:' + #parentId}), since whatever is found under an id is
+     *                  returned as the entity
+     * @param ids       requested ids, of the entity's own id type (Long or UUID)
+     * @param loader    reads the given ids in one query, e.g. {@code repository::findAllById}
+     * @param idOf      id of a loaded entity, matching the requested ids
+     * @throws IllegalArgumentException if more than batch-get.max-ids distinct ids are requested
+     */
+    public <T, ID> List<T> findAll(String cacheName, Collection<ID> ids,
+                                   Function<Collection<ID>, List<T>> loader, Function<? super T, ?> idOf) {
+        Set<ID> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " ids can be requested at once");
+        }
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Cache cache = cacheName != null ? cacheManager.getCache(cacheName) : null;
+        Map<Object, Object> found = cache != null ? cached(cache, requested) : new HashMap<>();
+        List<ID> misses = requested.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Object generation = cache != null ? currentGeneration(cache) : null;
+            for (T entity : loader.apply(misses)) {
+                found.put(idOf.apply(entity), entity);
+            }
+            if (cache != null && cache.get(GENERATION, Object.class) == generation) {
+                // Same entries @Cacheable findById would have written, including the "no such row" marker
+                misses.forEach(id -> cache.putIfAbsent(id, found.get(id)));
+                // A clear() between the check and the puts would leave the old rows behind
+                if (cache.get(GENERATION, Object.class) != generation) {
+                    misses.forEach(cache::evict);
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(requested.size());
+        for (ID id : requested) {
+            Object value = found.get(id);
+            if (value != null && value != NullValue.INSTANCE) {
+                @SuppressWarnings("unchecked")
+                T entity = (T) value;
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private static Object currentGeneration(Cache cache) {
+        Object generation = new Object();
+        Cache.ValueWrapper existing = cache.putIfAbsent(GENERATION, generation);
+        return existing == null ? generation : existing.get();
+    }
+
+    // Present entries as stored: the entity, or NullValue for an id findById found no row for
+    private static Map<Object, Object> cached(Cache cache, Set<?> ids) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            @SuppressWarnings("unchecked")
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> store =
+                    (com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine;
+            return new HashMap<>(store.getAllPresent(ids));
+        }
+        Map<Object, Object> present = new HashMap<>();
+        for (Object id : ids) {
+            Cache.ValueWrapper wrapper = cache.get(id);
+            if (wrapper != null) {
+                present.put(id, wrapper.get() != null ? wrapper.get() : NullValue.INSTANCE);
+            }
+        }
+        return present;
+    }
+}
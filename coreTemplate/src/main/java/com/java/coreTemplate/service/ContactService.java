@@ -4,9 +4,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.java.coreTemplate.repository.ContactRepository;
 import com.java.coreTemplate.model.dto.Contact;
+import com.java.coreTemplate.model.dto.ContactSummary;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -14,9 +17,14 @@ import java.util.Optional;
 public class ContactService {
 
     private final ContactRepository repository;
+    private final MergePatchService mergePatchService;
+    private final BatchLookupService batchLookup;
 
-    public ContactService(ContactRepository repository) {
+    public ContactService(ContactRepository repository, MergePatchService mergePatchService,
+                          BatchLookupService batchLookup) {
         this.repository = repository;
+        this.mergePatchService = mergePatchService;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -29,6 +37,11 @@ public class ContactService {
         return repository.save(entity);
     }
 
+    @Transactional
+    public MergePatchService.Result patch(Long id, JsonNode patch, Long expectedVersion) {
+        return mergePatchService.apply(Contact.class, id, patch, expectedVersion);
+    }
+
     @Transactional
     public void deleteById(Long id) {
         repository.deleteById(id);
@@ -38,12 +51,22 @@ public class ContactService {
         return repository.findById(id);
     }
 
+    // Contacts are not cached, so this is a single IN query
+    public List<Contact> findAllById(List<Long> ids) {
+        return batchLookup.findAll(null, ids, repository::findAllById, Contact::getId);
+    }
+
     public List<Contact> findAll() {
         return repository.findAll();
     }
 
-    public Page<Contact> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<ContactSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    public Page<ContactSummary> search(String name, String email, Pageable pageable) {
+        String emailPattern = email == null || email.isBlank() ? null : containsPattern(email);
+        return repository.searchSummaries(containsPattern(name), emailPattern, pageable);
     }
 
     public List<Contact> findAllActive() {
@@ -85,4 +108,8 @@ public class ContactService {
     public boolean existsByEmail(String email) {
         return repository.existsByEmail(email);
     }
-}
\ No newline at end of file
+
+    private static String containsPattern(String term) {
+        return term == null || term.isBlank() ? "%" : "%" + term.toLowerCase(Locale.ROOT) + "%";
+    }
+}
@@ -0,0 +1,187 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves sparse fieldsets ({@code ?fields=id,name,price}): the SELECT lists only the requested
+ * columns and each row comes back as a map keyed by the entity's JSON property names, so nothing
+ * else is read from the database or written to the response. Field names are checked against the
+ * entity's mapped basic columns; the id is always returned so clients can address the row.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FieldSelectionService {
+
+    // Whatever the repository would load lazily or as a nested object is not a column to select
+    private static final List<Class<? extends Annotation>> NOT_A_COLUMN = List.of(
+            Transient.class, OneToOne.class, OneToMany.class, ManyToOne.class, ManyToMany.class,
+            ElementCollection.class, Embedded.class, EmbeddedId.class);
+
+    // JSON property name -> entity attribute (field) name, id first
+    record Schema(String idProperty, Map<String, String> attributes) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Schema> schemas = new ConcurrentHashMap<>();
+
+    public FieldSelectionService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> Page<Map<String, Object>> findAll(Class<T> entityType, String fields, Pageable pageable) {
+        Map<String, String> selection = select(entityType, fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        query.multiselect(columns(root, selection));
+        if (pageable.getSort().isSorted()) {
+            try {
+                query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+            } catch (PropertyReferenceException e) {
+                throw new IllegalArgumentException("Cannot sort by '" + e.getPropertyName() + "'");
+            }
+        }
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = typed.getResultList().stream()
+                .map(tuple -> row(selection, tuple))
+                .toList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(entityType));
+    }
+
+    public <T> Optional<Map<String, Object>> findById(Class<T> entityType, Object id, String fields) {
+        Map<String, String> selection = select(entityType, fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        query.multiselect(columns(root, selection))
+                .where(cb.equal(root.get(selection.get(schema(entityType).idProperty())), id));
+        return entityManager.createQuery(query).setMaxResults(1).getResultList().stream()
+                .findFirst()
+                .map(tuple -> row(selection, tuple));
+    }
+
+    /**
+     * Resolves a comma separated {@code fields} parameter to the attributes to select, in request
+     * order after the id.
+     *
+     * @throws IllegalArgumentException if no field is named or a name is not a selectable property
+     */
+    Map<String, String> select(Class<?> entityType, String fields) {
+        Schema schema = schema(entityType);
+        Map<String, String> selection = new LinkedHashMap<>();
+        selection.put(schema.idProperty(), schema.attributes().get(schema.idProperty()));
+        boolean named = false;
+        for (String name : fields == null ? new String[0] : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            String attribute = schema.attributes().get(property);
+            if (attribute == null) {
+                throw new IllegalArgumentException("Unknown field '" + property + "'");
+            }
+            selection.putIfAbsent(property, attribute);
+            named = true;
+        }
+        if (!named) {
+            throw new IllegalArgumentException("fields must name at least one property");
+        }
+        return selection;
+    }
+
+    Schema schema(Class<?> entityType) {
+        return schemas.computeIfAbsent(entityType, this::introspect);
+    }
+
+    private Schema introspect(Class<?> entityType) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(entityType));
+        String idProperty = null;
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.couldSerialize()) {
+                continue;
+            }
+            Field field = MergePatchService.backingField(entityType, property);
+            if (field == null || Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+                    || NOT_A_COLUMN.stream().anyMatch(field::isAnnotationPresent)) {
+                continue;
+            }
+            if (field.isAnnotationPresent(Id.class)) {
+                idProperty = property.getName();
+            }
+            attributes.put(property.getName(), field.getName());
+        }
+        if (idProperty == null) {
+            throw new IllegalStateException(entityType.getSimpleName() + " has no serialized @Id property");
+        }
+        return new Schema(idProperty, attributes);
+    }
+
+    private static List<Selection<?>> columns(Root<?> root, Map<String, String> selection) {
+        List<Selection<?>> columns = new ArrayList<>(selection.size());
+        selection.values().forEach(attribute -> columns.add(root.get(attribute)));
+        return columns;
+    }
+
+    private static Map<String, Object> row(Map<String, String> selection, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int index = 0;
+        for (String property : selection.keySet()) {
+            row.put(property, tuple.get(index++));
+        }
+        return row;
+    }
+
+    private long count(Class<?> entityType) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityType)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
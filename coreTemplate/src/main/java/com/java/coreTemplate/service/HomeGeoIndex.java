@@ -0,0 +1,83 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.util.GeoHashUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory geohash index over geocoded homes.
+ * Entries are keyed by full-precision geohash so a radius query becomes a handful of prefix range scans.
+ */
+@Component
+public class HomeGeoIndex {
+
+    private final ConcurrentSkipListMap<String, HomeLocation> cells = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, String> keysById = new ConcurrentHashMap<>();
+
+    public void rebuild(Collection<HomeLocation> locations) {
+        cells.clear();
+        keysById.clear();
+        locations.forEach(this::put);
+    }
+
+    public void put(HomeLocation location) {
+        if (location.latitude() == null || location.longitude() == null) {
+            remove(location.id());
+            return;
+        }
+        String key = GeoHashUtil.encode(location.latitude(), location.longitude(), GeoHashUtil.MAX_PRECISION)
+                + ':' + location.id();
+        keysById.compute(location.id(), (id, previousKey) -> {
+            if (previousKey != null) {
+                cells.remove(previousKey);
+            }
+            cells.put(key, location);
+            return key;
+        });
+    }
+
+    public void remove(Long id) {
+        keysById.computeIfPresent(id, (key, previousKey) -> {
+            cells.remove(previousKey);
+            return null;
+        });
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    /**
+     * Returns the indexed homes within radiusKm of the given point that match the filter, nearest first.
+     */
+    public List<HomeLocation> findWithin(double latitude, double longitude, double radiusKm,
+                                         Predicate<HomeLocation> filter, int limit) {
+        List<Map.Entry<Double, HomeLocation>> matches = new ArrayList<>();
+        for (String prefix : GeoHashUtil.coveringCells(latitude, longitude, radiusKm)) {
+            for (HomeLocation candidate : cells.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                if (!filter.test(candidate)) {
+                    continue;
+                }
+                double distance = GeoHashUtil.distanceKm(latitude, longitude,
+                        candidate.latitude(), candidate.longitude());
+                if (distance <= radiusKm) {
+                    matches.add(Map.entry(distance, candidate));
+                }
+            }
+        }
+        return matches.stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .limit(limit)
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+}
@@ -0,0 +1,205 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.HomePriceJob;
+import com.java.coreTemplate.model.dto.HomePriceJobChunk;
+import com.java.coreTemplate.model.dto.HomePriceJobStatus;
+import com.java.coreTemplate.repository.HomePriceJobChunkRepository;
+import com.java.coreTemplate.repository.HomePriceJobRepository;
+import com.java.coreTemplate.repository.HomeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs bulk Home price adjustments as resumable jobs. The id space is split into fixed-size ranges,
+ * each range is claimed, updated and marked complete in its own transaction, and ranges run in
+ * parallel on the bounded homeJobExecutor. Progress lives in home_price_job_chunk, so after a crash
+ * only the unfinished ranges are re-run, and instances resuming the same job split its ranges
+ * between them instead of repricing a range twice.
+ */
+@Slf4j
+@Service
+public class HomePriceJobService {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final HomeRepository homeRepository;
+    private final HomePriceJobRepository jobRepository;
+    private final HomePriceJobChunkRepository chunkRepository;
+    private final HomeService homeService;
+    private final Executor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean resumeOnStartup;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public HomePriceJobService(HomeRepository homeRepository,
+                               HomePriceJobRepository jobRepository,
+                               HomePriceJobChunkRepository chunkRepository,
+                               HomeService homeService,
+                               @Qualifier("homeJobExecutor") Executor executor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jobs.home-price.resume-on-startup:true}") boolean resumeOnStartup) {
+        this.homeRepository = homeRepository;
+        this.jobRepository = jobRepository;
+        this.chunkRepository = chunkRepository;
+        this.homeService = homeService;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.resumeOnStartup = resumeOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        jobRepository.findByStatusIn(EnumSet.of(HomePriceJob.Status.PENDING, HomePriceJob.Status.RUNNING))
+                .forEach(job -> {
+                    log.info("Resuming home price job {}", job.getId());
+                    start(job.getId());
+                });
+    }
+
+    public HomePriceJob createJob(double percentageIncrease, Integer chunkSize) {
+        int size = chunkSize != null ? chunkSize : DEFAULT_CHUNK_SIZE;
+        if (size <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        HomePriceJob job = transactionTemplate.execute(status -> {
+            Optional<Long> minId = homeRepository.findMinId();
+            Optional<Long> maxId = homeRepository.findMaxId();
+
+            HomePriceJob newJob = new HomePriceJob();
+            newJob.setPercentageIncrease(percentageIncrease);
+            newJob.setChunkSize(size);
+            newJob.setMinId(minId.orElse(null));
+            newJob.setMaxId(maxId.orElse(null));
+            newJob.setStatus(HomePriceJob.Status.PENDING);
+            newJob.setTotalChunks(0);
+            jobRepository.save(newJob);
+
+            List<HomePriceJobChunk> chunks = new ArrayList<>();
+            if (minId.isPresent() && maxId.isPresent()) {
+                for (long start = minId.get(); start <= maxId.get(); start += size) {
+                    HomePriceJobChunk chunk = new HomePriceJobChunk();
+                    chunk.setJobId(newJob.getId());
+                    chunk.setStartId(start);
+                    chunk.setEndId(start + size);
+                    chunk.setStatus(HomePriceJobChunk.Status.PENDING);
+                    chunks.add(chunk);
+                }
+                chunkRepository.saveAll(chunks);
+            }
+            newJob.setTotalChunks(chunks.size());
+            return jobRepository.save(newJob);
+        });
+        log.info("Created home price job {} with {} chunks", job.getId(), job.getTotalChunks());
+        start(job.getId());
+        return job;
+    }
+
+    /**
+     * Schedules every unfinished chunk of the job. Failed chunks are retried; calling this for a job
+     * that is already running on this instance is a no-op.
+     */
+    public boolean start(Long jobId) {
+        if (!jobRepository.existsById(jobId) || !runningJobs.add(jobId)) {
+            return false;
+        }
+        HomePriceJob job;
+        List<HomePriceJobChunk> chunks;
+        try {
+            job = transactionTemplate.execute(status -> {
+                HomePriceJob current = jobRepository.findById(jobId).orElseThrow();
+                chunkRepository.resetFailedChunks(jobId);
+                current.setStatus(HomePriceJob.Status.RUNNING);
+                current.setLastError(null);
+                return jobRepository.save(current);
+            });
+            chunks = chunkRepository.findByJobIdAndStatusNotOrderByStartId(jobId, HomePriceJobChunk.Status.COMPLETED);
+        } catch (RuntimeException e) {
+            runningJobs.remove(jobId);
+            throw e;
+        }
+
+        AtomicReference<String> lastError = new AtomicReference<>();
+        CompletableFuture<?>[] futures = chunks.stream()
+                .map(chunk -> CompletableFuture.runAsync(
+                        () -> runChunk(chunk, job.getPercentageIncrease(), lastError), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((ignored, error) -> finish(jobId, lastError.get()));
+        return true;
+    }
+
+    public Optional<HomePriceJobStatus> getStatus(Long jobId) {
+        return jobRepository.findById(jobId).map(job -> new HomePriceJobStatus(
+                job.getId(),
+                job.getStatus(),
+                job.getPercentageIncrease(),
+                job.getTotalChunks(),
+                chunkRepository.countByJobIdAndStatus(jobId, HomePriceJobChunk.Status.COMPLETED),
+                chunkRepository.countByJobIdAndStatus(jobId, HomePriceJobChunk.Status.FAILED),
+                chunkRepository.sumUpdatedRows(jobId),
+                job.getLastError()));
+    }
+
+    private void runChunk(HomePriceJobChunk chunk, double percentageIncrease, AtomicReference<String> lastError) {
+        try {
+            Boolean claimed = transactionTemplate.execute(status -> {
+                if (chunkRepository.claimChunk(chunk.getId()) == 0) {
+                    return false;
+                }
+                int rows = homeRepository.bulkUpdatePriceInRange(chunk.getStartId(), chunk.getEndId(), percentageIncrease);
+                chunkRepository.markChunk(chunk.getId(), HomePriceJobChunk.Status.COMPLETED, rows, LocalDateTime.now());
+                return true;
+            });
+            if (!Boolean.TRUE.equals(claimed)) {
+                log.debug("Home price job {} chunk [{}, {}) already taken, skipping",
+                        chunk.getJobId(), chunk.getStartId(), chunk.getEndId());
+            }
+        } catch (RuntimeException e) {
+            log.error("Home price job {} chunk [{}, {}) failed", chunk.getJobId(), chunk.getStartId(), chunk.getEndId(), e);
+            lastError.set("Chunk [" + chunk.getStartId() + ", " + chunk.getEndId() + "): " + e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> chunkRepository.failChunk(chunk.getId()));
+        }
+    }
+
+    private void finish(Long jobId, String lastError) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                HomePriceJob job = jobRepository.findById(jobId).orElseThrow();
+                if (chunkRepository.countByJobIdAndStatus(jobId, HomePriceJobChunk.Status.PENDING) > 0) {
+                    // Ranges still held by another instance; whichever finishes last settles the job
+                    log.info("Home price job {} has ranges running elsewhere, leaving it RUNNING", jobId);
+                    return;
+                }
+                long failed = chunkRepository.countByJobIdAndStatus(jobId, HomePriceJobChunk.Status.FAILED);
+                job.setStatus(failed > 0 ? HomePriceJob.Status.FAILED : HomePriceJob.Status.COMPLETED);
+                job.setLastError(lastError != null && lastError.length() > 1000 ? lastError.substring(0, 1000) : lastError);
+                jobRepository.save(job);
+                log.info("Home price job {} finished with status {}", jobId, job.getStatus());
+            });
+            homeService.refreshAfterBulkUpdate();
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+}
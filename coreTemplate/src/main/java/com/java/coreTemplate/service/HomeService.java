@@ -1,9 +1,17 @@
 package com.java.coreTemplate.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.java.coreTemplate.repository.HomeRepository;
 import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.model.dto.HomeSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
@@ -12,7 +20,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,13 +33,57 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class HomeService {
 
+    static final int MAX_NEARBY_LIMIT = 200;
+
     private final HomeRepository repository;
+    private final HomeGeoIndex geoIndex;
+    private final ZipCentroidService zipCentroidService;
+    private final ResourceFingerprintService fingerprints;
+    private final MergePatchService mergePatchService;
+    private final BatchLookupService batchLookup;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildGeoIndex() {
+        geoIndex.rebuild(repository.findActiveLocations());
+        log.info("Geo index built with {} homes", geoIndex.size());
+    }
+
+    /**
+     * Drops cached homes and re-reads index data after rows were changed behind the entity cache,
+     * e.g. by a bulk price job.
+     */
+    @CacheEvict(value = "homes", allEntries = true)
+    public void refreshAfterBulkUpdate() {
+        fingerprints.invalidate(Home.class);
+        rebuildGeoIndex();
+    }
 
     @Transactional
     @CacheEvict(value = "homes", allEntries = true)
     public Home save(Home entity) {
         log.info("Saving home: {}", entity);
-        return repository.save(entity);
+        if (entity.getLatitude() == null) {
+            applyZipCentroid(entity);
+        }
+        Home saved = repository.save(entity);
+        indexLocation(saved);
+        return saved;
+    }
+
+    /**
+     * Merge-patches one home with a single UPDATE; the row is only read back when the patch moves
+     * it in or out of the geo index.
+     */
+    @Transactional
+    @CacheEvict(value = "homes", allEntries = true)
+    public MergePatchService.Result patch(Long id, JsonNode patch, Long expectedVersion) {
+        MergePatchService.Result result = mergePatchService.apply(Home.class, id, patch, expectedVersion);
+        if (result.status() == MergePatchService.Status.APPLIED
+                && (patch.has("latitude") || patch.has("longitude") || patch.has("active"))) {
+            repository.findById(id).ifPresent(this::indexLocation);
+        }
+        return result;
     }
 
     @Cacheable(value = "homes", key = "#id")
@@ -35,16 +92,93 @@ public class HomeService {
         return repository.findById(id);
     }
 
+    public List<Home> findAllById(List<Long> ids) {
+        return batchLookup.findAll("homes", ids, repository::findAllById, Home::getId);
+    }
+
     @Transactional
-    @CacheEvict(value = "homes", key = "#id")
+    @CacheEvict(value = "homes", allEntries = true)
     public void deleteById(Long id) {
         log.info("Deleting home by id: {}", id);
         repository.deleteById(id);
+        geoIndex.remove(id);
     }
 
-    public Page<Home> findAll(Pageable pageable) {
-        log.info("Fetching all homes with pagination");
-        return repository.findAll(pageable);
+    /**
+     * Finds active homes within radiusKm of the given point, nearest first, optionally narrowed by
+     * price range and minimum bedrooms. Candidates come from the geo index; only the matches are loaded.
+     *
+     * @throws IllegalArgumentException if limit is outside 1..{@value #MAX_NEARBY_LIMIT}, since every
+     *                                  match is loaded as an entity
+     */
+    public List<Home> findNearby(double latitude, double longitude, double radiusKm,
+                                 Double minPrice, Double maxPrice, Integer minBedrooms, int limit) {
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_NEARBY_LIMIT);
+        }
+        log.info("Fetching homes within {} km of ({}, {})", radiusKm, latitude, longitude);
+        List<Long> ids = geoIndex.findWithin(latitude, longitude, radiusKm, location ->
+                        (minPrice == null || (location.price() != null && location.price() >= minPrice))
+                                && (maxPrice == null || (location.price() != null && location.price() <= maxPrice))
+                                && (minBedrooms == null || (location.bedrooms() != null && location.bedrooms() >= minBedrooms)),
+                        limit)
+                .stream()
+                .map(HomeLocation::id)
+                .toList();
+
+        Map<Long, Home> homesById = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Home::getId, Function.identity()));
+        return ids.stream()
+                .map(homesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Fills in coordinates for homes that have a zip code but no location yet. Each batch is read
+     * and written in its own transaction; the geo index only sees a batch once it has committed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = "homes", allEntries = true)
+    public int backfillCoordinates(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        int updated = 0;
+        long lastId = 0;
+        List<Home> batch;
+        do {
+            long after = lastId;
+            batch = transactionTemplate.execute(status -> {
+                List<Home> homes = repository.findUngeocodedAfter(after, PageRequest.of(0, batchSize));
+                homes.forEach(this::applyZipCentroid);
+                return homes;
+            });
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            for (Home home : batch) {
+                if (home.getLatitude() != null) {
+                    indexLocation(home);
+                    updated++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        log.info("Geocoded {} homes from zip centroids", updated);
+        return updated;
+    }
+
+    public Page<HomeSummary> findSummaries(Pageable pageable) {
+        log.info("Fetching home summaries with pagination");
+        return repository.findSummaries(pageable);
+    }
+
+    // Matches name, address or zip code; an empty query lists every home
+    public Page<HomeSummary> search(String query, Pageable pageable) {
+        log.info("Searching homes for: {}", query);
+        String pattern = query == null || query.isBlank() ? "%" : "%" + query.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(pattern, pageable);
     }
 
     public List<Home> findAllActive() {
@@ -59,7 +193,7 @@ public class HomeService {
     }
 
     @Transactional
-    @CacheEvict(value = "homes", key = "#id")
+    @CacheEvict(value = "homes", allEntries = true)
     public Home updateHome(Long id, Home updatedHome) {
         log.info("Updating home with id: {}", id);
         return repository.findById(id)
@@ -67,8 +201,28 @@ public class HomeService {
                     existingHome.setAddress(updatedHome.getAddress());
                     existingHome.setActive(updatedHome.isActive());
                     // update other fields as needed
-                    return repository.save(existingHome);
+                    Home saved = repository.save(existingHome);
+                    indexLocation(saved);
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Home not found with id: " + id));
     }
+
+    private boolean applyZipCentroid(Home home) {
+        return zipCentroidService.lookup(home.getZipCode())
+                .map(centroid -> {
+                    home.setLatitude(centroid[0]);
+                    home.setLongitude(centroid[1]);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private void indexLocation(Home home) {
+        if (home.isActive() && home.getLatitude() != null && home.getLongitude() != null) {
+            geoIndex.put(HomeLocation.of(home));
+        } else {
+            geoIndex.remove(home.getId());
+        }
+    }
 }
\ No newline at end of file
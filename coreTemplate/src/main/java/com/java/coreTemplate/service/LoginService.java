@@ -43,7 +43,7 @@ public class LoginService {
     }
 
     @Transactional
-    @CacheEvict(value = "logins", key = "#id")
+    @CacheEvict(value = "logins", allEntries = true)
     public void deactivateLogin(Long id) {
         repository.findById(id).ifPresent(login -> {
             login.setActive(false);
@@ -56,7 +56,7 @@ public class LoginService {
     }
 
     @Transactional
-    @CacheEvict(value = "logins", key = "#id")
+    @CacheEvict(value = "logins", allEntries = true)
     public Optional<Login> updateLogin(Long id, Login updatedLogin) {
         return repository.findById(id).map(existingLogin -> {
             existingLogin.setUsername(updatedLogin.getUsername());
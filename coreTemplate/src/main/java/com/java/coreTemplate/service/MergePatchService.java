@@ -0,0 +1,267 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Version;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7386) to one entity row with a single UPDATE that sets only the
+ * patched columns, bumps the version and, given an If-Match version, adds {@code AND version = ?}.
+ * The entity is never loaded, so @PreUpdate does not run; updatedAt is set by the statement instead.
+ * Patch keys are the entity's JSON property names; only updatable, non-id, non-version @Column
+ * fields are accepted and values are checked against nullable/length before anything is written.
+ */
+@Service
+public class MergePatchService {
+
+    public enum Status { APPLIED, NOT_FOUND, PRECONDITION_FAILED }
+
+    // version is the row version after the patch (the current one for 412), null only for NOT_FOUND
+    public record Result(Status status, Long version) {
+    }
+
+    // One patchable property: JSON name, entity attribute (field) name and its mapping
+    record PatchableField(String property, Field field, Column column) {
+    }
+
+    // Never equal to a row version, so an unusable If-Match tag always fails the precondition
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    // A version optionally followed by format suffixes; collection tags ("12-1700000000000") don't match
+    private static final Pattern VERSION_TAG = Pattern.compile("(\\d+)(?:-[a-z][a-z-]*)?");
+
+    private static final String VERSION_ATTRIBUTE = "version";
+    private static final String UPDATED_AT_ATTRIBUTE = "updatedAt";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final ResourceFingerprintService fingerprints;
+    private final Map<Class<?>, Map<String, PatchableField>> schemas = new ConcurrentHashMap<>();
+
+    public MergePatchService(ObjectMapper objectMapper, ResourceFingerprintService fingerprints) {
+        this.objectMapper = objectMapper;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Reads an If-Match header into the expected version: null when absent or "*", otherwise the
+     * number inside a strong entity tag. A representation suffix such as "5-cbor" is dropped, since
+     * every format of a row carries the same version. Weak or malformed tags can never match.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return UNMATCHABLE_VERSION;
+        }
+        Matcher matcher = VERSION_TAG.matcher(tag.substring(1, tag.length() - 1));
+        if (!matcher.matches()) {
+            return UNMATCHABLE_VERSION;
+        }
+        try {
+            return Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the patch is not an object, names an unknown or read-only
+     *                                  property, or holds a value the column cannot take
+     */
+    @Transactional
+    public <T> Result apply(Class<T> entityType, Object id, JsonNode patch, Long expectedVersion) {
+        Map<String, Object> changes = validate(entityType, patch);
+        if (changes.isEmpty()) {
+            return currentState(entityType, id, expectedVersion);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+
+        Path<Long> version = root.get(VERSION_ATTRIBUTE);
+        update.set(version, cb.sum(version, 1L));
+        setUpdatedAt(update, root);
+        update.where(expectedVersion != null
+                ? cb.and(cb.equal(root.get("id"), id), cb.equal(version, expectedVersion))
+                : cb.equal(root.get("id"), id));
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            return currentState(entityType, id, expectedVersion);
+        }
+        invalidateAfterCommit(entityType);
+        // Without If-Match the new version is read back; the UPDATE still holds the row lock, so no
+        // other writer can have moved it on in between
+        return new Result(Status.APPLIED, expectedVersion != null ? expectedVersion + 1 : currentVersion(entityType, id));
+    }
+
+    /**
+     * Converts the patch into attribute values, rejecting anything the entity would not accept.
+     */
+    Map<String, Object> validate(Class<?> entityType, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Map<String, PatchableField> schema = schemas.computeIfAbsent(entityType, this::schema);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            PatchableField target = schema.get(entry.getKey());
+            if (target == null) {
+                throw new IllegalArgumentException("Property '" + entry.getKey() + "' cannot be patched");
+            }
+            changes.put(target.field().getName(), convert(target, entry.getValue()));
+        }
+        return changes;
+    }
+
+    private Object convert(PatchableField target, JsonNode value) {
+        if (value.isNull()) {
+            if (target.field().getType().isPrimitive() || (target.column() != null && !target.column().nullable())) {
+                throw new IllegalArgumentException("Property '" + target.property() + "' cannot be null");
+            }
+            return null;
+        }
+        if (value.isContainerNode()) {
+            throw new IllegalArgumentException("Property '" + target.property() + "' must be a scalar");
+        }
+        Object converted;
+        try {
+            converted = objectMapper.treeToValue(value, target.field().getType());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Property '" + target.property() + "' has an invalid value");
+        }
+        if (converted instanceof String text && boundedLength(target) && text.length() > target.column().length()) {
+            throw new IllegalArgumentException("Property '" + target.property() + "' is longer than "
+                    + target.column().length() + " characters");
+        }
+        return converted;
+    }
+
+    // TEXT / @Lob columns have no length limit worth checking
+    private static boolean boundedLength(PatchableField target) {
+        return target.column() != null && target.column().columnDefinition().isEmpty()
+                && !target.field().isAnnotationPresent(Lob.class);
+    }
+
+    private Map<String, PatchableField> schema(Class<?> entityType) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(entityType));
+        Map<String, PatchableField> schema = new LinkedHashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            Field field = backingField(entityType, property);
+            if (field == null) {
+                continue;
+            }
+            Column column = field.getAnnotation(Column.class);
+            if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Version.class)
+                    || UPDATED_AT_ATTRIBUTE.equals(field.getName())
+                    || (column != null && !column.updatable())) {
+                continue;
+            }
+            schema.put(property.getName(), new PatchableField(property.getName(), field, column));
+        }
+        return schema;
+    }
+
+    // Lombok names the accessors of "boolean isActive" isActive()/setActive(), so Jackson calls
+    // the property "active" without linking it to the field
+    static Field backingField(Class<?> entityType, BeanPropertyDefinition property) {
+        AnnotatedField annotated = property.getField();
+        if (annotated != null) {
+            return annotated.getAnnotated();
+        }
+        String name = property.getInternalName();
+        String prefixed = "is" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Class<?> type = entityType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                boolean flag = field.getType() == boolean.class || field.getType() == Boolean.class;
+                if (field.getName().equals(name) || (flag && field.getName().equals(prefixed))) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private <T> void setUpdatedAt(CriteriaUpdate<T> update, Root<T> root) {
+        Class<?> type = root.getModel().getAttributes().stream()
+                .filter(attribute -> UPDATED_AT_ATTRIBUTE.equals(attribute.getName()))
+                .map(attribute -> (Class<?>) attribute.getJavaType())
+                .findFirst()
+                .orElse(null);
+        if (type == LocalDateTime.class) {
+            update.set(root.<LocalDateTime>get(UPDATED_AT_ATTRIBUTE), LocalDateTime.now());
+        } else if (type == Instant.class) {
+            update.set(root.<Instant>get(UPDATED_AT_ATTRIBUTE), Instant.now());
+        }
+    }
+
+    // Only reached when nothing was written: tells a missing row apart from a stale If-Match
+    private Result currentState(Class<?> entityType, Object id, Long expectedVersion) {
+        Long current = currentVersion(entityType, id);
+        if (current == null) {
+            return new Result(Status.NOT_FOUND, null);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(current)) {
+            return new Result(Status.PRECONDITION_FAILED, current);
+        }
+        return new Result(Status.APPLIED, current);
+    }
+
+    // Version column only, never the entity; null when there is no such row
+    private Long currentVersion(Class<?> entityType, Object id) {
+        List<Long> versions = entityManager
+                .createQuery("SELECT e.version FROM " + entityManager.getMetamodel().entity(entityType).getName()
+                        + " e WHERE e.id = :id", Long.class)
+                .setParameter("id", id)
+                .getResultList();
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    private void invalidateAfterCommit(Class<?> entityType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fingerprints.invalidate(entityType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fingerprints.invalidate(entityType);
+            }
+        });
+    }
+}
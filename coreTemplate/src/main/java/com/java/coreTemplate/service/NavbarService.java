@@ -5,8 +5,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import com.java.coreTemplate.repository.NavbarRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.model.dto.NavbarSummary;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -14,9 +18,11 @@ import java.util.Optional;
 public class NavbarService {
 
     private final NavbarRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public NavbarService(NavbarRepository repository) {
+    public NavbarService(NavbarRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -25,17 +31,31 @@ public class NavbarService {
         return repository.save(entity);
     }
 
-    @Cacheable("navbars")
+    @Cacheable(value = "navbars", key = "#id")
     public Optional<Navbar> findById(Long id) {
         return repository.findById(id);
     }
 
-    @Cacheable("navbars")
+    public List<Navbar> findAllById(List<Long> ids) {
+        return batchLookup.findAll("navbars", ids, repository::findAllById, Navbar::getId);
+    }
+
+    @Cacheable(value = "navbars", key = "'all'")
     public List<Navbar> findAll() {
         return repository.findAll();
     }
 
-    @Cacheable("navbars")
+    public Page<NavbarSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    // Navbar items have no title column; the title filter matches the name
+    public Page<NavbarSummary> search(String title, Boolean active, Pageable pageable) {
+        String namePattern = title == null || title.isBlank() ? "%" : "%" + title.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(namePattern, active, pageable);
+    }
+
+    @Cacheable(value = "navbars", key = "'active'")
     public List<Navbar> findAllActive() {
         return repository.findByIsActiveTrue();
     }
@@ -60,12 +80,13 @@ public class NavbarService {
                 .orElseThrow(() -> new RuntimeException("Navbar not found with id: " + id));
     }
 
-    @Cacheable("navbars")
+    // Prefixed so a parent's children never land on the parent's own id entry
+    @Cacheable(value = "navbars", key = "'parent:' + #parentId")
     public List<Navbar> findByParentId(Long parentId) {
         return repository.findByParentId(parentId);
     }
 
-    @Cacheable("navbars")
+    @Cacheable(value = "navbars", key = "'search:' + #name")
     public List<Navbar> searchByName(String name) {
         return repository.findByNameContainingIgnoreCase(name);
     }
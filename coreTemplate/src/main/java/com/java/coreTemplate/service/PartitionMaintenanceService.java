@@ -0,0 +1,117 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.config.PartitionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly created_at partitions of contact and register in shape: future months are
+ * created ahead of time, and months past the retention window are detached and archived, so queries
+ * on recent rows only ever touch a few small partitions.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(PartitionProperties.class)
+@ConditionalOnProperty(prefix = "partitioning", name = "enabled", havingValue = "true")
+public class PartitionMaintenanceService {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Pattern PARTITION_SUFFIX = Pattern.compile("_p(\\d{6})$");
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final PartitionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionMaintenanceService(PartitionProperties properties, JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        properties.getTables().forEach(PartitionMaintenanceService::requireIdentifier);
+        requireIdentifier(properties.getArchiveSchema());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${partitioning.cron:0 0 2 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (String table : properties.getTables()) {
+            try {
+                for (int offset = 0; offset <= properties.getPrecreateMonths(); offset++) {
+                    createPartition(table, current.plusMonths(offset));
+                }
+                YearMonth oldestKept = current.minusMonths(properties.getRetainMonths());
+                for (String partition : attachedPartitions(table)) {
+                    Matcher matcher = PARTITION_SUFFIX.matcher(partition);
+                    if (matcher.find() && YearMonth.parse(matcher.group(1), SUFFIX_FORMAT).isBefore(oldestKept)) {
+                        detachPartition(table, partition);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("Partition maintenance failed for table {}", table, e);
+            }
+        }
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        String partition = table + "_p" + month.format(SUFFIX_FORMAT);
+        execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private List<String> attachedPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, table);
+    }
+
+    private void detachPartition(String table, String partition) {
+        requireIdentifier(partition);
+        execute("ALTER TABLE " + table + " DETACH PARTITION " + partition
+                + (properties.isDetachConcurrently() ? " CONCURRENTLY" : ""));
+        if (properties.isDropDetached()) {
+            execute("DROP TABLE " + partition);
+            log.info("Dropped partition {} of {}", partition, table);
+        } else {
+            execute("CREATE SCHEMA IF NOT EXISTS " + properties.getArchiveSchema());
+            execute("ALTER TABLE " + partition + " SET SCHEMA " + properties.getArchiveSchema());
+            log.info("Archived partition {} of {} into schema {}", partition, table, properties.getArchiveSchema());
+        }
+    }
+
+    // DDL runs in autocommit mode: the pool defaults to auto-commit false, and
+    // DETACH ... CONCURRENTLY is not allowed inside a transaction block
+    private void execute(String sql) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private static void requireIdentifier(String name) {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid table or schema name: " + name);
+        }
+    }
+}
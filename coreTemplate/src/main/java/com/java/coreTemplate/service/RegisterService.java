@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.java.coreTemplate.repository.RegisterRepository;
 import com.java.coreTemplate.model.dto.Register;
+import com.java.coreTemplate.model.dto.RegisterSummary;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
@@ -11,16 +12,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Transactional(readOnly = true)
 public class RegisterService {
 
     private final RegisterRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public RegisterService(RegisterRepository repository) {
+    public RegisterService(RegisterRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -30,17 +35,27 @@ public class RegisterService {
     }
 
     @Cacheable(value = "registers", key = "#id")
-    public Optional<Register> findById(Long id) {
+    public Optional<Register> findById(UUID id) {
         return repository.findById(id);
     }
 
-    @Cacheable("registers")
+    public List<Register> findAllById(List<UUID> ids) {
+        return batchLookup.findAll("registers", ids, repository::findAllById, Register::getId);
+    }
+
+    @Cacheable(value = "registers", key = "'all'")
     public List<Register> findAll() {
         return repository.findAll();
     }
 
-    public Page<Register> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<RegisterSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    // Matches the username or the email
+    public Page<RegisterSummary> search(String query, Pageable pageable) {
+        String pattern = query == null || query.isBlank() ? "%" : "%" + query.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(pattern, pageable);
     }
 
     public Page<Register> findAll(Specification<Register> spec, Pageable pageable) {
@@ -48,8 +63,8 @@ public class RegisterService {
     }
 
     @Transactional
-    @CacheEvict(value = "registers", key = "#id")
-    public void deleteById(Long id) {
+    @CacheEvict(value = "registers", allEntries = true)
+    public void deleteById(UUID id) {
         repository.deleteById(id);
     }
 
@@ -58,14 +73,14 @@ public class RegisterService {
         return repository.findByIsActiveTrue();
     }
 
-    @Cacheable(value = "registers", key = "#email")
+    @Cacheable(value = "registers", key = "'email:' + #email")
     public Optional<Register> findByEmail(String email) {
         return repository.findByEmail(email);
     }
 
     @Transactional
-    @CacheEvict(value = "registers", key = "#id")
-    public Register update(Long id, Register updatedEntity) {
+    @CacheEvict(value = "registers", allEntries = true)
+    public Register update(UUID id, Register updatedEntity) {
         return repository.findById(id)
                 .map(existing -> {
                     // Update fields here
@@ -0,0 +1,106 @@
+package com.java.coreTemplate.service;
+
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Validators for conditional GET, read straight from the entity tables without loading entities.
+ * An item is tagged with its @Version; a collection with count(*) and max(updated_at) of its table.
+ * Collection fingerprints are cached per table for a short TTL and dropped as soon as a write to
+ * that table commits, so the aggregate runs at most once per TTL while nothing changes.
+ */
+@Service
+public class ResourceFingerprintService {
+
+    public record Fingerprint(String etag, long lastModified) {
+    }
+
+    private record CachedFingerprint(Fingerprint fingerprint, long expiresAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<String, CachedFingerprint> collections = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a fingerprint read that raced a commit is not cached
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> tables = new ConcurrentHashMap<>();
+
+    public ResourceFingerprintService(JdbcTemplate jdbcTemplate,
+                                      @Value("${conditional-get.collection-fingerprint-ttl:5s}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<Fingerprint> item(Class<?> entityType, Object id) {
+        List<Fingerprint> rows = jdbcTemplate.query(
+                "SELECT version, updated_at FROM " + table(entityType) + " WHERE id = ?",
+                (rs, rowNum) -> new Fingerprint(quote(Long.toString(rs.getLong(1))), millis(rs.getTimestamp(2))),
+                id);
+        return rows.stream().findFirst();
+    }
+
+    public Fingerprint collection(Class<?> entityType) {
+        String table = table(entityType);
+        long now = System.nanoTime();
+        CachedFingerprint cached = collections.get(table);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.fingerprint();
+        }
+
+        AtomicLong generation = generation(table);
+        long seen = generation.get();
+        Fingerprint fresh = jdbcTemplate.queryForObject(
+                "SELECT count(*), max(updated_at) FROM " + table,
+                (rs, rowNum) -> {
+                    long lastModified = millis(rs.getTimestamp(2));
+                    return new Fingerprint(quote(rs.getLong(1) + "-" + lastModified), lastModified);
+                });
+        collections.compute(table, (key, current) ->
+                generation.get() == seen ? new CachedFingerprint(fresh, now + ttlNanos) : current);
+        return fresh;
+    }
+
+    public void invalidate(Class<?> entityType) {
+        if (entityType.isAnnotationPresent(Table.class)) {
+            invalidate(table(entityType));
+        }
+    }
+
+    public void invalidate(String table) {
+        generation(table).incrementAndGet();
+        collections.remove(table);
+    }
+
+    private AtomicLong generation(String table) {
+        return generations.computeIfAbsent(table, key -> new AtomicLong());
+    }
+
+    // Table names only ever come from @Table, never from the request
+    private String table(Class<?> entityType) {
+        return tables.computeIfAbsent(entityType, type -> {
+            Table table = type.getAnnotation(Table.class);
+            if (table == null || table.name().isEmpty()) {
+                throw new IllegalArgumentException(type.getName() + " has no @Table name");
+            }
+            return table.name();
+        });
+    }
+
+    private static long millis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : -1;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,21 @@
+package com.java.coreTemplate.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "retention", name = "enabled", havingValue = "true")
+public class RetentionScheduler {
+
+    private final RetentionService retentionService;
+
+    public RetentionScheduler(RetentionService retentionService) {
+        this.retentionService = retentionService;
+    }
+
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void run() {
+        retentionService.runAll();
+    }
+}
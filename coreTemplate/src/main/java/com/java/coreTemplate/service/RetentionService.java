@@ -0,0 +1,137 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.config.RetentionProperties;
+import com.java.coreTemplate.config.RetentionProperties.Action;
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Register;
+import com.java.coreTemplate.repository.BannerRepository;
+import com.java.coreTemplate.repository.RegisterRepository;
+import com.java.coreTemplate.repository.ServiceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the per-entity retention policies from {@link RetentionProperties}. Each policy runs as a
+ * series of small, separately committed batches with a pause in between, instead of one statement
+ * over the whole table.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(RetentionProperties.class)
+public class RetentionService {
+
+    @FunctionalInterface
+    private interface BatchOperation {
+        int apply(LocalDateTime cutoff, int batchSize);
+    }
+
+    private final RetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceFingerprintService fingerprints;
+    private final Map<String, Map<Action, BatchOperation>> operations = new LinkedHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RetentionService(RetentionProperties properties,
+                            BannerRepository bannerRepository,
+                            ServiceRepository serviceRepository,
+                            RegisterRepository registerRepository,
+                            PlatformTransactionManager transactionManager,
+                            ResourceFingerprintService fingerprints) {
+        this.properties = properties;
+        this.fingerprints = fingerprints;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        register("banner", Action.DELETE, bannerRepository::deleteInactiveBannersOlderThanBatch);
+        register("banner", Action.ARCHIVE, bannerRepository::archiveInactiveBannersOlderThanBatch);
+        register("service", Action.DELETE, serviceRepository::deleteInactiveServicesOlderThanBatch);
+        register("service", Action.ARCHIVE, serviceRepository::archiveInactiveServicesOlderThanBatch);
+        register("register", Action.DEACTIVATE, registerRepository::deactivateOldRegistrationsBatch);
+
+        properties.getPolicies().forEach((name, policy) -> resolve(name, policy.getAction()));
+    }
+
+    /**
+     * Runs every enabled policy once and returns the number of rows affected per policy.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "banners", allEntries = true),
+            @CacheEvict(value = "service", allEntries = true),
+            @CacheEvict(value = "registers", allEntries = true)
+    })
+    public Map<String, Integer> runAll() {
+        Map<String, Integer> affected = new LinkedHashMap<>();
+        if (!running.compareAndSet(false, true)) {
+            log.info("Retention run already in progress, skipping");
+            return affected;
+        }
+        try {
+            properties.getPolicies().forEach((name, policy) -> {
+                if (policy.isEnabled()) {
+                    affected.put(name, runPolicy(name, policy));
+                }
+            });
+        } finally {
+            // Batches are native statements, invisible to the entity listeners
+            fingerprints.invalidate(Banner.class);
+            fingerprints.invalidate(com.java.coreTemplate.model.dto.Service.class);
+            fingerprints.invalidate(Register.class);
+            running.set(false);
+        }
+        return affected;
+    }
+
+    private int runPolicy(String name, RetentionProperties.Policy policy) {
+        BatchOperation operation = resolve(name, policy.getAction());
+        LocalDateTime cutoff = LocalDateTime.now().minus(policy.getRetain());
+        int batchSize = properties.getBatchSize();
+        int total = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer rows = transactionTemplate.execute(status -> operation.apply(cutoff, batchSize));
+            total += rows != null ? rows : 0;
+            if (rows == null || rows < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("Retention policy '{}' ({} before {}) affected {} rows", name, policy.getAction(), cutoff, total);
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatches().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void register(String name, Action action, BatchOperation operation) {
+        operations.computeIfAbsent(name, key -> new EnumMap<>(Action.class)).put(action, operation);
+    }
+
+    private BatchOperation resolve(String name, Action action) {
+        BatchOperation operation = operations.getOrDefault(name, Map.of()).get(action);
+        if (operation == null) {
+            throw new IllegalStateException("Unsupported retention policy " + name + " with action " + action);
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,103 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds hot read-only responses as ready-to-write JSON bytes, plus a gzip copy once they reach
+ * response-cache.gzip-min-size, so a hit costs neither an entity lookup nor a Jackson pass.
+ * Entries are stored in the resource's own Spring cache under a {@link Key}: every
+ * {@code @CacheEvict(allEntries = true)} on that cache drops them along with the entities, and
+ * they share its size bound, expiry and hit/miss metrics.
+ * <p>
+ * A miss loads outside the cache, so a write can evict while the old value is being serialized.
+ * The cache therefore also holds a generation marker that every clear() drops with the bodies; a
+ * body is only kept if the marker it was loaded under is still the current one after the put.
+ */
+@Service
+public class SerializedResponseCache {
+
+    /** Cache key of a serialized response; cannot collide with the ids and SimpleKeys of @Cacheable. */
+    public record Key(String name) {
+    }
+
+    public record Body(byte[] json, byte[] gzip) {
+    }
+
+    /** Key of the generation marker; a fresh marker object is stored after each clear(). */
+    private record GenerationKey() {
+    }
+
+    private static final GenerationKey GENERATION = new GenerationKey();
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final long gzipMinSize;
+
+    public SerializedResponseCache(CacheManager cacheManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize.toBytes();
+    }
+
+    public Body get(String cacheName, String name, Supplier<?> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("No cache named " + cacheName);
+        }
+        Key key = new Key(name);
+        Body body = cache.get(key, Body.class);
+        if (body == null) {
+            Object generation = currentGeneration(cache);
+            // Not Cache.get(key, loader): a @Cacheable loader would re-enter the same cache while it computes
+            body = serialize(loader.get());
+            if (cache.get(GENERATION, Object.class) == generation) {
+                cache.putIfAbsent(key, body);
+                // A clear() between the check and the put would leave the stale body behind
+                if (cache.get(GENERATION, Object.class) != generation) {
+                    cache.evict(key);
+                }
+            }
+        }
+        return body;
+    }
+
+    private static Object currentGeneration(Cache cache) {
+        Object generation = new Object();
+        Cache.ValueWrapper existing = cache.putIfAbsent(GENERATION, generation);
+        return existing == null ? generation : existing.get();
+    }
+
+    Body serialize(Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize cached response", e);
+        }
+        return new Body(json, json.length >= gzipMinSize ? gzip(json) : null);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
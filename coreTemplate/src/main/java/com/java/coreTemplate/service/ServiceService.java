@@ -4,46 +4,62 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.java.coreTemplate.repository.ServiceRepository;
 import com.java.coreTemplate.model.dto.Service;
+import com.java.coreTemplate.model.dto.ServiceSummary;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Transactional(readOnly = true)
 public class ServiceService {
     private final ServiceRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public ServiceService(ServiceRepository repository) {
+    public ServiceService(ServiceRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
-    @CacheEvict(value = "services", allEntries = true)
+    @CacheEvict(value = "service", allEntries = true)
     public Service save(Service entity) {
         return repository.save(entity);
     }
 
-    @Cacheable(value = "services", key = "#id")
-    public Optional<Service> findById(Long id) {
+    @Cacheable(value = "service", key = "#id")
+    public Optional<Service> findById(UUID id) {
         return repository.findById(id);
     }
 
-    @Cacheable("services")
+    public List<Service> findAllById(List<UUID> ids) {
+        return batchLookup.findAll("service", ids, repository::findAllById, Service::getId);
+    }
+
+    @Cacheable(value = "service", key = "'all'")
     public List<Service> findAll() {
         return repository.findAll();
     }
 
     @Transactional
-    @CacheEvict(value = "services", key = "#id")
-    public void deleteById(Long id) {
+    @CacheEvict(value = "service", allEntries = true)
+    public void deleteById(UUID id) {
         repository.deleteById(id);
     }
 
-    public Page<Service> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<ServiceSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    public Page<ServiceSummary> search(String name, String description, Pageable pageable) {
+        String namePattern = name == null || name.isBlank() ? "%" : "%" + name.toLowerCase(Locale.ROOT) + "%";
+        String descriptionPattern = description == null || description.isBlank()
+                ? null : "%" + description.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(namePattern, descriptionPattern, pageable);
     }
 
     public List<Service> findAllActive() {
@@ -55,8 +71,8 @@ public class ServiceService {
     }
 
     @Transactional
-    @CacheEvict(value = "services", key = "#id")
-    public Service update(Long id, Service updatedEntity) {
+    @CacheEvict(value = "service", allEntries = true)
+    public Service update(UUID id, Service updatedEntity) {
         return repository.findById(id)
                 .map(existingEntity -> {
                     // Update fields here
@@ -68,7 +84,7 @@ public class ServiceService {
                 .orElseThrow(() -> new EntityNotFoundException("Service not found with id: " + id));
     }
 
-    public boolean existsById(Long id) {
+    public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.java.coreTemplate.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.java.coreTemplate.repository.ServicesRepository;
+import com.java.coreTemplate.model.dto.ServiceSummary;
 import com.java.coreTemplate.model.dto.Services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,16 +11,20 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Transactional(readOnly = true)
 public class ServicesService {
 
     private final ServicesRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public ServicesService(ServicesRepository repository) {
+    public ServicesService(ServicesRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -29,18 +34,27 @@ public class ServicesService {
     }
 
     @Cacheable(value = "services", key = "#id")
-    public Optional<Services> findById(Long id) {
+    public Optional<Services> findById(UUID id) {
         return repository.findById(id);
     }
 
-    @Cacheable("services")
+    public List<Services> findAllById(List<UUID> ids) {
+        return batchLookup.findAll("services", ids, repository::findAllById, Services::getId);
+    }
+
+    @Cacheable(value = "services", key = "'all'")
     public List<Services> findAll() {
         return repository.findAll();
     }
 
     @Cacheable("services")
-    public Page<Services> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public Page<ServiceSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    public Page<ServiceSummary> searchByName(String name, Pageable pageable) {
+        String namePattern = name == null || name.isBlank() ? "%" : "%" + name.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(namePattern, pageable);
     }
 
     public List<Services> findAllActive() {
@@ -48,8 +62,8 @@ public class ServicesService {
     }
 
     @Transactional
-    @CacheEvict(value = "services", key = "#id")
-    public void deleteById(Long id) {
+    @CacheEvict(value = "services", allEntries = true)
+    public void deleteById(UUID id) {
         repository.deleteById(id);
     }
 
@@ -59,7 +73,7 @@ public class ServicesService {
         return repository.save(entity);
     }
 
-    public boolean existsById(Long id) {
+    public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
 
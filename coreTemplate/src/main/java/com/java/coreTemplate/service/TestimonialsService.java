@@ -3,6 +3,7 @@ package com.java.coreTemplate.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.java.coreTemplate.repository.TestimonialsRepository;
+import com.java.coreTemplate.model.dto.TestimonialSummary;
 import com.java.coreTemplate.model.dto.Testimonials;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -17,9 +19,11 @@ import java.util.Optional;
 public class TestimonialsService {
 
     private final TestimonialsRepository repository;
+    private final BatchLookupService batchLookup;
 
-    public TestimonialsService(TestimonialsRepository repository) {
+    public TestimonialsService(TestimonialsRepository repository, BatchLookupService batchLookup) {
         this.repository = repository;
+        this.batchLookup = batchLookup;
     }
 
     @Transactional
@@ -33,29 +37,43 @@ public class TestimonialsService {
         return repository.findById(id);
     }
 
-    @Cacheable("testimonials")
-    public Page<Testimonials> findAll(Pageable pageable) {
-        return repository.findAll(pageable);
+    public List<Testimonials> findAllById(List<Long> ids) {
+        return batchLookup.findAll("testimonials", ids, repository::findAllById, Testimonials::getId);
     }
 
     @Cacheable("testimonials")
+    public Page<TestimonialSummary> findSummaries(Pageable pageable) {
+        return repository.findSummaries(pageable);
+    }
+
+    public Page<TestimonialSummary> findFeaturedTestimonials(Pageable pageable) {
+        return repository.findFeaturedSummaries(pageable);
+    }
+
+    // Matches the content or the author's name
+    public Page<TestimonialSummary> searchTestimonials(String keyword, Pageable pageable) {
+        String pattern = keyword == null || keyword.isBlank() ? "%" : "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+        return repository.searchSummaries(pattern, pageable);
+    }
+
+    @Cacheable(value = "testimonials", key = "'active'")
     public List<Testimonials> findAllActive() {
         return repository.findByIsActiveTrue();
     }
 
     @Transactional
-    @CacheEvict(value = "testimonials", key = "#id")
+    @CacheEvict(value = "testimonials", allEntries = true)
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
-    @Cacheable("testimonials")
+    @Cacheable(value = "testimonials", key = "'rating:' + #rating")
     public List<Testimonials> findByRatingGreaterThanEqual(int rating) {
         return repository.findByRatingGreaterThanEqual(rating);
     }
 
     @Transactional
-    @CacheEvict(value = "testimonials", key = "#id")
+    @CacheEvict(value = "testimonials", allEntries = true)
     public Testimonials updateTestimonial(Long id, Testimonials updatedTestimonial) {
         return repository.findById(id)
                 .map(existing -> {
@@ -68,7 +86,7 @@ public class TestimonialsService {
                 .orElseThrow(() -> new RuntimeException("Testimonial not found with id: " + id));
     }
 
-    @Cacheable("testimonials")
+    @Cacheable(value = "testimonials", key = "'search:' + #keyword")
     public List<Testimonials> searchTestimonials(String keyword) {
         return repository.findByContentContainingIgnoreCaseOrAuthorContainingIgnoreCase(keyword, keyword);
     }
@@ -0,0 +1,61 @@
+package com.java.coreTemplate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves zip codes to centroid coordinates from a local CSV dataset (zip,latitude,longitude),
+ * so homes can be geocoded without calling an external service.
+ */
+@Slf4j
+@Service
+public class ZipCentroidService {
+
+    private final Map<String, double[]> centroids;
+
+    public ZipCentroidService(@Value("${geo.zip-centroids:classpath:geo/zip-centroids.csv}") Resource dataset) {
+        this.centroids = load(dataset);
+    }
+
+    public Optional<double[]> lookup(String zipCode) {
+        if (zipCode == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(centroids.get(zipCode.trim()));
+    }
+
+    private static Map<String, double[]> load(Resource dataset) {
+        Map<String, double[]> result = new HashMap<>();
+        if (!dataset.exists()) {
+            log.warn("Zip centroid dataset not found: {}", dataset);
+            return result;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dataset.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length < 3) {
+                    continue;
+                }
+                result.put(parts[0].trim(), new double[]{
+                        Double.parseDouble(parts[1].trim()),
+                        Double.parseDouble(parts[2].trim())});
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Failed to load zip centroid dataset " + dataset, e);
+        }
+        log.info("Loaded {} zip centroids from {}", result.size(), dataset);
+        return result;
+    }
+}
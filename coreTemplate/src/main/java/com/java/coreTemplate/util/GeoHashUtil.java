@@ -0,0 +1,126 @@
+package com.java.coreTemplate.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash encoding and radius helpers used by the Home geo index.
+ */
+public final class GeoHashUtil {
+
+    public static final int MAX_PRECISION = 9;
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final int MAX_COVERING_CELLS = 64;
+
+    private GeoHashUtil() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Returns the {latitude, longitude} size in degrees of a cell at the given precision.
+     */
+    public static double[] cellSize(int precision) {
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        return new double[]{180.0 / (1L << latBits), 360.0 / (1L << lonBits)};
+    }
+
+    /**
+     * Returns the geohash cells, at the finest precision that keeps the cell count bounded,
+     * whose union covers the bounding box of the given circle.
+     */
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        double deltaLat = radiusKm / KM_PER_DEGREE_LAT;
+        double deltaLon = deltaLat / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        int precision = MAX_PRECISION;
+        while (precision > 1) {
+            double[] size = cellSize(precision);
+            long rows = (long) Math.ceil(2 * deltaLat / size[0]) + 1;
+            long cols = (long) Math.ceil(2 * deltaLon / size[1]) + 1;
+            if (rows * cols <= MAX_COVERING_CELLS) {
+                break;
+            }
+            precision--;
+        }
+
+        double[] size = cellSize(precision);
+        double minLat = Math.max(latitude - deltaLat, -90);
+        double maxLat = Math.min(latitude + deltaLat, 90);
+        double minLon = longitude - deltaLon;
+        double maxLon = longitude + deltaLon;
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat += size[0]) {
+            double clampedLat = Math.min(lat, maxLat);
+            for (double lon = minLon; ; lon += size[1]) {
+                double clampedLon = Math.min(lon, maxLon);
+                cells.add(encode(clampedLat, normalizeLongitude(clampedLon), precision));
+                if (clampedLon >= maxLon) {
+                    break;
+                }
+            }
+            if (clampedLat >= maxLat) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Great-circle distance between two points using the haversine formula.
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+}
@@ -0,0 +1,11 @@
+-- Indexes backing the collection fingerprints used for conditional GET (ResourceFingerprintService).
+-- max(updated_at) then reads one index entry instead of scanning the table.
+CREATE INDEX IF NOT EXISTS idx_advertise_updated_at ON advertise (updated_at);
+CREATE INDEX IF NOT EXISTS idx_banner_updated_at ON banner (updated_at);
+CREATE INDEX IF NOT EXISTS idx_contact_updated_at ON contact (updated_at);
+CREATE INDEX IF NOT EXISTS idx_home_updated_at ON home (updated_at);
+CREATE INDEX IF NOT EXISTS idx_navbar_updated_at ON navbar (updated_at);
+CREATE INDEX IF NOT EXISTS idx_register_updated_at ON register (updated_at);
+CREATE INDEX IF NOT EXISTS idx_service_updated_at ON service (updated_at);
+CREATE INDEX IF NOT EXISTS idx_services_updated_at ON services (updated_at);
+CREATE INDEX IF NOT EXISTS idx_testimonials_updated_at ON testimonials (updated_at);
@@ -0,0 +1,8 @@
+-- Columns behind the Home geo search (HomeGeoIndex, ZipCentroidService). ddl-auto is validate,
+-- so apply this before deploying the version that maps them.
+ALTER TABLE home ADD COLUMN IF NOT EXISTS zip_code VARCHAR(10);
+ALTER TABLE home ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE home ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+-- Keyset walk of POST /api/v1/homes/geocode (HomeRepository.findUngeocodedAfter); shrinks as rows are resolved
+CREATE INDEX IF NOT EXISTS idx_home_ungeocoded ON home (id) WHERE latitude IS NULL AND zip_code IS NOT NULL;
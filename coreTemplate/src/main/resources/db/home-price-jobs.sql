@@ -0,0 +1,31 @@
+-- Tables behind the resumable Home price jobs (HomePriceJobService). ddl-auto is validate,
+-- so apply this before deploying the version that maps them.
+CREATE TABLE IF NOT EXISTS home_price_job (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    percentage_increase DOUBLE PRECISION NOT NULL,
+    min_id              BIGINT,
+    max_id              BIGINT,
+    chunk_size          INTEGER NOT NULL,
+    total_chunks        INTEGER NOT NULL,
+    status              VARCHAR(20) NOT NULL,
+    last_error          VARCHAR(1000),
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    version             BIGINT
+);
+
+-- Jobs left PENDING/RUNNING are resumed on startup
+CREATE INDEX IF NOT EXISTS idx_home_price_job_status ON home_price_job (status);
+
+-- One row per id range [start_id, end_id); RUNNING only exists inside the transaction that claimed it
+CREATE TABLE IF NOT EXISTS home_price_job_chunk (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id       BIGINT NOT NULL REFERENCES home_price_job (id) ON DELETE CASCADE,
+    start_id     BIGINT NOT NULL,
+    end_id       BIGINT NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    updated_rows INTEGER,
+    completed_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_home_price_job_chunk_job_status ON home_price_job_chunk (job_id, status);
@@ -0,0 +1,77 @@
+-- One-off migration: convert contact and register into tables partitioned by created_at month.
+-- PartitionMaintenanceService (partitioning.enabled=true) creates future months and detaches old ones.
+--
+-- Primary keys and unique constraints on a partitioned table must include the partition key,
+-- so email/username uniqueness becomes per (value, created_at). Enforce global uniqueness in the
+-- service layer (existsByEmail) if it is still required.
+--
+-- Each table gets a DEFAULT partition for rows outside the created months. PostgreSQL refuses
+-- DETACH PARTITION ... CONCURRENTLY while one exists, so leave partitioning.detach-concurrently false.
+
+BEGIN;
+
+-- INCLUDING ALL carries the identity column, defaults and checks across. Indexes are left out because
+-- a primary key on id alone is not allowed on a table partitioned by created_at.
+ALTER TABLE contact RENAME TO contact_legacy;
+CREATE TABLE contact (LIKE contact_legacy INCLUDING ALL EXCLUDING INDEXES) PARTITION BY RANGE (created_at);
+ALTER TABLE contact ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE contact ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_contact_created_at ON contact (created_at);
+CREATE INDEX idx_contact_email ON contact (email);
+CREATE TABLE contact_default PARTITION OF contact DEFAULT;
+
+ALTER TABLE register RENAME TO register_legacy;
+CREATE TABLE register (LIKE register_legacy INCLUDING ALL EXCLUDING INDEXES) PARTITION BY RANGE (created_at);
+ALTER TABLE register ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE register ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_register_created_at ON register (created_at);
+CREATE INDEX idx_register_email ON register (email);
+CREATE TABLE register_default PARTITION OF register DEFAULT;
+
+-- Monthly partitions from the oldest row through the current month (where rows without a created_at
+-- land), named like PartitionMaintenanceService's so it detaches them later. Created before the copy,
+-- otherwise every row goes to DEFAULT and the service can no longer create those months.
+DO $$
+DECLARE
+    parent text;
+    month_start date;
+    last_month date;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['contact', 'register'] LOOP
+        EXECUTE format('SELECT date_trunc(''month'', LEAST(min(created_at), localtimestamp))::date, '
+                           || 'date_trunc(''month'', GREATEST(max(created_at), localtimestamp))::date FROM %I',
+                       parent || '_legacy')
+            INTO month_start, last_month;
+        WHILE month_start <= last_month LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           parent || '_p' || to_char(month_start, 'YYYYMM'), parent,
+                           month_start, (month_start + interval '1 month')::date);
+            month_start := (month_start + interval '1 month')::date;
+        END LOOP;
+    END LOOP;
+END $$;
+
+-- OVERRIDING SYSTEM VALUE keeps the existing ids even if the identity column is GENERATED ALWAYS
+INSERT INTO contact (id, first_name, last_name, email, phone_number, is_active, is_verified,
+                     created_at, updated_at, version)
+OVERRIDING SYSTEM VALUE
+SELECT id, first_name, last_name, email, phone_number, is_active, is_verified,
+       COALESCE(created_at, now()), updated_at, version
+FROM contact_legacy;
+
+INSERT INTO register (id, username, email, password_hash, is_verified, is_active,
+                      created_at, updated_at, version)
+SELECT id, username, email, password_hash, is_verified, is_active,
+       COALESCE(created_at, now()), updated_at, version
+FROM register_legacy;
+
+-- The new identity sequence starts at 1; move it past the copied ids (register uses UUIDs)
+SELECT setval(pg_get_serial_sequence('contact', 'id'), COALESCE(max(id), 0) + 1, false) FROM contact;
+
+COMMIT;
+
+-- If contact.id was a serial column rather than an identity, its sequence still belongs to the legacy
+-- table; hand it over before the drop: ALTER SEQUENCE contact_id_seq OWNED BY contact.id;
+-- After verifying row counts:
+--   DROP TABLE contact_legacy;
+--   DROP TABLE register_legacy;
@@ -0,0 +1,9 @@
+-- Archive tables for retention policies using action ARCHIVE.
+-- Rows are moved with the same column layout as the live table.
+CREATE TABLE IF NOT EXISTS banner_archive (LIKE banner INCLUDING DEFAULTS);
+CREATE TABLE IF NOT EXISTS service_archive (LIKE service INCLUDING DEFAULTS);
+
+-- Partial indexes so each retention batch finds its candidates without a full scan
+CREATE INDEX IF NOT EXISTS idx_banner_inactive_end_date ON banner (end_date, id) WHERE is_active = false;
+CREATE INDEX IF NOT EXISTS idx_service_inactive_created_at ON service (created_at, id) WHERE is_active = false;
+CREATE INDEX IF NOT EXISTS idx_register_active_created_at ON register (created_at, id) WHERE is_active = true;
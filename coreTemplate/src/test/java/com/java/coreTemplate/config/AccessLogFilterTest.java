@@ -0,0 +1,59 @@
+package com.java.coreTemplate.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessLogFilterTest {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AccessLogFilter filter = new AccessLogFilter(new AccessLogProperties());
+
+    @BeforeEach
+    void attach() {
+        accessLog.setLevel(Level.INFO);
+        appender.start();
+        accessLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void detach() {
+        accessLog.detachAppender(appender);
+    }
+
+    @Test
+    void completedRequestIsLoggedWithItsStatus() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/homes"), response,
+                (req, res) -> response.setStatus(404));
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("\"status\":404"));
+    }
+
+    @Test
+    void requestThatThrowsIsStillLoggedAsServerError() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/v1/homes"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.contains("\"endpoint\":\"/api/v1/homes\""), line);
+        assertTrue(line.contains("\"status\":500"), line);
+    }
+}
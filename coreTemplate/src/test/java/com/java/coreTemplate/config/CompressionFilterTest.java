@@ -0,0 +1,178 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.service.MergePatchService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionFilterTest {
+
+    private static final byte[] LARGE = ("[" + "{\"id\":1,\"name\":\"Home\",\"address\":\"1 Main Street\"},".repeat(60) + "{}]")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SMALL = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final CompressionFilter filter = new CompressionFilter(new CompressionProperties());
+
+    @Test
+    void largeJsonIsGzipped() throws Exception {
+        MockHttpServletResponse response = run(filter, "gzip, deflate, br", (req, res) -> {
+            res.setContentType("application/json");
+            // Written in pieces like Jackson does, crossing the threshold half way
+            res.getOutputStream().write(LARGE, 0, 600);
+            res.getOutputStream().write(LARGE, 600, LARGE.length - 600);
+        });
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(LARGE, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void declaredLengthDecidesBeforeTheFirstWrite() throws Exception {
+        MockHttpServletResponse response = run(filter, "gzip", (req, res) -> {
+            res.setContentType("application/json;charset=UTF-8");
+            res.setContentLength(LARGE.length);
+            res.getOutputStream().write(LARGE);
+        });
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(LARGE, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void smallOrNonTextResponsesAreSentAsIs() throws Exception {
+        MockHttpServletResponse small = run(filter, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(SMALL);
+        });
+        assertNull(small.getHeader("Content-Encoding"));
+        assertEquals(String.valueOf(SMALL.length), small.getHeader("Content-Length"));
+        assertArrayEquals(SMALL, small.getContentAsByteArray());
+
+        MockHttpServletResponse image = run(filter, "gzip", (req, res) -> {
+            res.setContentType("image/png");
+            res.getOutputStream().write(LARGE);
+        });
+        assertNull(image.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE, image.getContentAsByteArray());
+    }
+
+    @Test
+    void preCompressedAndUnacceptedResponsesPassThrough() throws Exception {
+        MockHttpServletResponse preCompressed = run(filter, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            ((HttpServletResponse) res).setHeader("Content-Encoding", "gzip");
+            res.getOutputStream().write(LARGE);
+        });
+        assertArrayEquals(LARGE, preCompressed.getContentAsByteArray());
+
+        MockHttpServletResponse identity = run(filter, "gzip;q=0, identity", (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(LARGE);
+        });
+        assertNull(identity.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE, identity.getContentAsByteArray());
+    }
+
+    @Test
+    void compressedResponseGetsAStrongTagThatStillWorksAsIfMatch() throws Exception {
+        MockHttpServletResponse compressed = run(filter, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            ((HttpServletResponse) res).setHeader("ETag", "\"42\"");
+            res.getOutputStream().write(LARGE);
+        });
+        assertEquals("\"42-gzip\"", compressed.getHeader("ETag"));
+        // The client PATCHes with the tag its GET returned
+        assertEquals(42L, MergePatchService.expectedVersion(compressed.getHeader("ETag")));
+
+        MockHttpServletResponse identity = run(filter, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            ((HttpServletResponse) res).setHeader("ETag", "\"42\"");
+            res.getOutputStream().write(SMALL);
+        });
+        assertEquals("\"42\"", identity.getHeader("ETag"));
+    }
+
+    @Test
+    void asyncResponseIsWrittenThroughAfterTheFilterReturns() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/homes");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> wrapped = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync(req, res);
+            wrapped.set(res);
+        });
+        // The async thread writes through the wrapper it was handed
+        wrapped.get().setContentType("application/json");
+        wrapped.get().getOutputStream().write(LARGE);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE, response.getContentAsByteArray());
+    }
+
+    @Test
+    void exhaustedEncoderPoolFallsBackToIdentity() throws Exception {
+        GzipEncoderPool pool = new GzipEncoderPool(1, 5);
+        GzipEncoderPool.Encoder busy = pool.acquire();
+        CompressionFilter bounded = new CompressionFilter(new CompressionProperties(), pool);
+
+        MockHttpServletResponse response = run(bounded, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(LARGE);
+        });
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertArrayEquals(LARGE, response.getContentAsByteArray());
+
+        pool.release(busy);
+        MockHttpServletResponse compressed = run(bounded, "gzip", (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(LARGE);
+        });
+        assertArrayEquals(LARGE, gunzip(compressed.getContentAsByteArray()));
+    }
+
+    @Test
+    void acceptEncodingNegotiation() {
+        assertTrue(CompressionFilter.acceptsGzip("gzip"));
+        assertTrue(CompressionFilter.acceptsGzip("br;q=1.0, GZIP;q=0.8"));
+        assertFalse(CompressionFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(CompressionFilter.acceptsGzip("br, deflate"));
+        assertFalse(CompressionFilter.acceptsGzip(null));
+    }
+
+    private static MockHttpServletResponse run(CompressionFilter filter, String acceptEncoding, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/homes");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(HttpServletResponse.SC_OK);
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.model.dto.ServiceSummary;
+import com.java.coreTemplate.model.dto.Services;
+import com.java.coreTemplate.repository.ServicesRepository;
+import com.java.coreTemplate.service.BatchLookupService;
+import com.java.coreTemplate.service.ResourceFingerprintService;
+import com.java.coreTemplate.service.ResourceFingerprintService.Fingerprint;
+import com.java.coreTemplate.service.ServicesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A write followed by a conditional list GET, through the real caching and transaction proxies: the
+ * body served under a new collection ETag must be the one the write produced.
+ */
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class ConditionalCollectionCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final ServiceSummary KEPT = summary("Hosting");
+    private static final ServiceSummary DELETED = summary("Backups");
+
+    @ConditionalResource(Services.class)
+    static class ServicesHandler {
+        public void getAll() {
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(MetricsConfig.class)
+    static class Config {
+
+        // Flipped when the delete's transaction commits
+        final AtomicBoolean committed = new AtomicBoolean();
+
+        @Bean
+        CacheProperties cacheProperties() {
+            return new CacheProperties();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager("services");
+        }
+
+        @Bean
+        ServicesRepository servicesRepository() {
+            ServicesRepository repository = mock(ServicesRepository.class);
+            when(repository.findSummaries(FIRST_PAGE)).thenAnswer(invocation ->
+                    new PageImpl<>(committed.get() ? List.of(KEPT) : List.of(KEPT, DELETED)));
+            return repository;
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        ResourceFingerprintService resourceFingerprintService() {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class))).thenAnswer(invocation ->
+                    committed.get() ? new Fingerprint("\"1-2000\"", 2000) : new Fingerprint("\"2-1000\"", 1000));
+            return new ResourceFingerprintService(jdbcTemplate, Duration.ofMinutes(1));
+        }
+
+        @Bean
+        ServicesService servicesService(ServicesRepository repository, CacheManager cacheManager) {
+            return new ServicesService(repository, new BatchLookupService(cacheManager, 100));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(ServicesService service,
+                                                      ResourceFingerprintService fingerprints) {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                    if (!status.isReadOnly()) {
+                        // A list GET on another request thread just before the delete becomes visible
+                        CompletableFuture.runAsync(() -> service.findSummaries(FIRST_PAGE)).join();
+                        committed.set(true);
+                        // What FingerprintInvalidationListener does once Hibernate reports the commit
+                        fingerprints.invalidate(Services.class);
+                    }
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private ServicesService service;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(Config.class);
+        service = context.getBean(ServicesService.class);
+        interceptor = new ConditionalGetInterceptor(context.getBean(ResourceFingerprintService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void listAfterADeleteIsServedFreshUnderTheNewETag() throws Exception {
+        MockHttpServletResponse first = get(null);
+        assertEquals("\"2-1000\"", first.getHeader("ETag"));
+        assertEquals(List.of(KEPT, DELETED), service.findSummaries(FIRST_PAGE).getContent());
+
+        service.deleteById(DELETED.id());
+
+        MockHttpServletResponse changed = get("\"2-1000\"");
+        assertEquals(200, changed.getStatus());
+        assertEquals("\"1-2000\"", changed.getHeader("ETag"));
+        assertEquals(List.of(KEPT), service.findSummaries(FIRST_PAGE).getContent());
+
+        // The tag the client now holds revalidates the body it was sent with
+        assertEquals(304, get("\"1-2000\"").getStatus());
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/services");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of());
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response,
+                new HandlerMethod(new ServicesHandler(), ServicesHandler.class.getMethod("getAll")));
+        return response;
+    }
+
+    private static ServiceSummary summary(String name) {
+        return new ServiceSummary(UUID.randomUUID(), name, 10.0, false, true, 0L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.java.coreTemplate.config;
+
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.service.MergePatchService;
+import com.java.coreTemplate.service.ResourceFingerprintService;
+import com.java.coreTemplate.service.ResourceFingerprintService.Fingerprint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class ConditionalGetInterceptorTest {
+
+    @ConditionalResource(Banner.class)
+    static class BannerHandler {
+        public void get() {
+        }
+    }
+
+    private final ResourceFingerprintService fingerprints = mock(ResourceFingerprintService.class);
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(fingerprints);
+
+    @Test
+    void matchingItemVersionIsAnsweredWith304() throws Exception {
+        when(fingerprints.item(Banner.class, 7L)).thenReturn(Optional.of(new Fingerprint("\"3\"", 1_700_000_000_000L)));
+        MockHttpServletRequest request = request("/api/v1/banners/7", Map.of("id", "7"));
+        request.addHeader("If-None-Match", "\"3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, handler()));
+        assertEquals(304, response.getStatus());
+        assertEquals("\"3\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void gzipVariantTagIsRevalidatedUnderItsOwnTag() throws Exception {
+        when(fingerprints.item(Banner.class, 7L)).thenReturn(Optional.of(new Fingerprint("\"3\"", 1_700_000_000_000L)));
+        MockHttpServletRequest request = request("/api/v1/banners/7", Map.of("id", "7"));
+        request.addHeader("If-None-Match", "\"3-gzip\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, handler()));
+        assertEquals(304, response.getStatus());
+        assertEquals("\"3-gzip\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void changedCollectionProceedsWithValidators() throws Exception {
+        when(fingerprints.collection(Banner.class)).thenReturn(new Fingerprint("\"12-1700000000000\"", 1_700_000_000_000L));
+        MockHttpServletRequest request = request("/api/v1/banners", Map.of());
+        request.addHeader("If-None-Match", "\"11-1690000000000\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler()));
+        assertEquals(200, response.getStatus());
+        assertEquals("\"12-1700000000000\"", response.getHeader("ETag"));
+        assertEquals(1_700_000_000_000L, response.getDateHeader("Last-Modified"));
+    }
+
+    @Test
+    void binaryFormatsGetTheirOwnETag() throws Exception {
+        when(fingerprints.item(Banner.class, 7L)).thenReturn(Optional.of(new Fingerprint("\"3\"", 1_700_000_000_000L)));
+        MockHttpServletRequest request = request("/api/v1/banners/7", Map.of("id", "7"));
+        request.addHeader("Accept", "application/cbor");
+        // Cached from the JSON representation
+        request.addHeader("If-None-Match", "\"3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler()));
+        assertEquals("\"3-cbor\"", response.getHeader("ETag"));
+
+        assertEquals("\"3\"", ConditionalGetInterceptor.etag("\"3\"", "*/*"));
+        assertEquals("\"3\"", ConditionalGetInterceptor.etag("\"3\"", "application/cbor;q=0.5, application/json"));
+        assertEquals("\"3-x-jackson-smile\"", ConditionalGetInterceptor.etag("\"3\"", "application/x-jackson-smile"));
+    }
+
+    @Test
+    void tagFromABinaryGetIsAcceptedAsIfMatch() throws Exception {
+        when(fingerprints.item(Banner.class, 7L)).thenReturn(Optional.of(new Fingerprint("\"5\"", 1_700_000_000_000L)));
+        for (String accept : new String[] {"application/cbor", "application/x-jackson-smile"}) {
+            MockHttpServletRequest get = request("/api/v1/banners/7", Map.of("id", "7"));
+            get.addHeader("Accept", accept);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertTrue(interceptor.preHandle(get, response, handler()));
+
+            // What the controller hands to the PATCH when the client echoes the tag back
+            assertEquals(5L, MergePatchService.expectedVersion(response.getHeader("ETag")), accept);
+        }
+    }
+
+    @Test
+    void writesAndMissingRowsAreLeftToTheHandler() throws Exception {
+        when(fingerprints.item(Banner.class, 8L)).thenReturn(Optional.empty());
+        MockHttpServletRequest missing = request("/api/v1/banners/8", Map.of("id", "8"));
+        assertTrue(interceptor.preHandle(missing, new MockHttpServletResponse(), handler()));
+
+        MockHttpServletRequest put = request("/api/v1/banners/8", Map.of("id", "8"));
+        put.setMethod("PUT");
+        assertTrue(interceptor.preHandle(put, new MockHttpServletResponse(), handler()));
+        verify(fingerprints, times(1)).item(Banner.class, 8L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collectionFingerprintIsCachedUntilInvalidated() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenReturn(new Fingerprint("\"1-1\"", 1), new Fingerprint("\"2-2\"", 2));
+        ResourceFingerprintService service = new ResourceFingerprintService(jdbcTemplate, Duration.ofMinutes(1));
+
+        assertEquals("\"1-1\"", service.collection(Banner.class).etag());
+        assertEquals("\"1-1\"", service.collection(Banner.class).etag());
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(RowMapper.class));
+
+        service.invalidate("banner");
+        assertEquals("\"2-2\"", service.collection(Banner.class).etag());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    private static MockHttpServletRequest request(String uri, Map<String, String> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new BannerHandler(), BannerHandler.class.getMethod("get"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.java.coreTemplate.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HikariPoolTunerTest {
+
+    private final PoolTuningProperties properties = new PoolTuningProperties();
+
+    @Test
+    void growsTowardsPeakDemandOneStepAtATime() {
+        // 30 threads wanted a connection at once on a pool of 20
+        assertEquals(24, HikariPoolTuner.recommend(12, 30, 20, properties));
+        assertEquals(28, HikariPoolTuner.recommend(12, 30, 24, properties));
+        assertEquals(30, HikariPoolTuner.recommend(12, 30, 28, properties));
+    }
+
+    @Test
+    void shrinksToMeanUsagePlusHeadroom() {
+        // mean 4 in use, peak 6: 4 * 1.25 = 5, but the peak wins
+        assertEquals(16, HikariPoolTuner.recommend(4, 6, 20, properties));
+        assertEquals(6, HikariPoolTuner.recommend(4, 6, 8, properties));
+    }
+
+    @Test
+    void staysWithinBounds() {
+        assertEquals(5, HikariPoolTuner.recommend(0, 0, 6, properties));
+        assertEquals(50, HikariPoolTuner.recommend(200, 200, 48, properties));
+    }
+
+    @Test
+    void keepsSizeWhenDemandMatches() {
+        assertEquals(20, HikariPoolTuner.recommend(16, 20, 20, properties));
+    }
+}
@@ -0,0 +1,73 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Http2ConfigTest {
+
+    private WebServer server;
+    private URI uri;
+
+    @BeforeEach
+    void start() {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        new Http2Config().http2Customizer(new Http2Properties()).customize(factory);
+        server = factory.getWebServer(context -> context.addServlet("echo", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("text/plain");
+                response.getWriter().write(request.getProtocol());
+            }
+        }).addMapping("/*"));
+        server.start();
+        uri = URI.create("http://localhost:" + server.getPort() + "/api/v1/homes");
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop();
+    }
+
+    @Test
+    void clearTextClientsAreUpgradedToHttp2AndMultiplexed() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+        // The first request carries Upgrade: h2c, the rest are streams on the upgraded connection
+        HttpResponse<String> upgraded = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpClient.Version.HTTP_2, upgraded.version());
+
+        List<CompletableFuture<HttpResponse<String>>> page = IntStream.range(0, 20)
+                .mapToObj(i -> client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        for (CompletableFuture<HttpResponse<String>> response : page) {
+            assertEquals(HttpClient.Version.HTTP_2, response.get().version());
+            assertEquals("HTTP/2.0", response.get().body());
+        }
+    }
+
+    @Test
+    void http11ClientsAreStillServed() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpClient.Version.HTTP_1_1, response.version());
+        assertEquals("HTTP/1.1", response.body());
+    }
+}
@@ -0,0 +1,91 @@
+package com.java.coreTemplate.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaRoutingPolicy policy;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setStickiness(Duration.ofSeconds(2));
+        policy = new ReplicaRoutingPolicy(properties, now::get);
+
+        dataSource = new ReplicaRoutingDataSource(policy);
+        dataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingPolicy.Route.PRIMARY, primary,
+                ReplicaRoutingPolicy.Route.REPLICA, replica));
+        dataSource.setDefaultTargetDataSource(primary);
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() throws Exception {
+        inTransaction(true);
+        assertSame(replicaConnection, dataSource.getConnection());
+
+        inTransaction(false);
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void laggingOrUnavailableReplicaFallsBackToPrimary() throws Exception {
+        inTransaction(true);
+        policy.updateReplicaLag(Duration.ofSeconds(10));
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        policy.updateReplicaLag(Duration.ofMillis(100));
+        assertSame(replicaConnection, dataSource.getConnection());
+
+        policy.markReplicaUnavailable();
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void clientReadsOwnWritesFromPrimaryUntilStickinessExpires() {
+        assertSame(ReplicaRoutingPolicy.Route.PRIMARY, policy.route(false, "session-a"));
+        assertSame(ReplicaRoutingPolicy.Route.PRIMARY, policy.route(true, "session-a"));
+        assertSame(ReplicaRoutingPolicy.Route.REPLICA, policy.route(true, "session-b"));
+
+        now.addAndGet(2_001);
+        assertSame(ReplicaRoutingPolicy.Route.REPLICA, policy.route(true, "session-a"));
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,81 @@
+package com.java.coreTemplate.config;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowTraceRecorderTest {
+
+    private SlowTraceRecorder recorder;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        TracingProperties properties = new TracingProperties();
+        properties.setSlowThreshold(Duration.ofMillis(100));
+        properties.setCapacity(2);
+        recorder = new SlowTraceRecorder(properties);
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(recorder)).build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void slowRequestIsKeptWithItsStages() {
+        request("GET /api/v1/homes/search", 250, "HomeService.search");
+
+        List<SlowTraceRecorder.Trace> traces = recorder.slowTraces();
+        assertEquals(1, traces.size());
+        SlowTraceRecorder.Trace trace = traces.get(0);
+        assertEquals(250.0, trace.durationMs());
+        assertEquals(2, trace.spans().size());
+        assertNull(trace.spans().get(0).parentSpanId());
+        assertEquals("HomeService.search", trace.spans().get(1).name());
+        assertEquals(10.0, trace.spans().get(1).offsetMs());
+    }
+
+    @Test
+    void fastRequestIsDropped() {
+        request("GET /api/v1/homes/1", 20, "HomeService.findById");
+        assertTrue(recorder.slowTraces().isEmpty());
+    }
+
+    @Test
+    void onlyTheLastTracesAreKeptSlowestFirst() {
+        request("a", 150, "s");
+        request("b", 300, "s");
+        request("c", 200, "s");
+
+        List<SlowTraceRecorder.Trace> traces = recorder.slowTraces();
+        assertEquals(List.of("b", "c"), traces.stream().map(SlowTraceRecorder.Trace::name).toList());
+    }
+
+    private void request(String name, long durationMs, String childName) {
+        long start = TimeUnit.MILLISECONDS.toNanos(1_000_000);
+        Span root = tracer.spanBuilder(name).setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        Span child = tracer.spanBuilder(childName)
+                .setParent(Context.root().with(root))
+                .setStartTimestamp(start + TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.NANOSECONDS)
+                .startSpan();
+        child.end(start + TimeUnit.MILLISECONDS.toNanos(durationMs / 2), TimeUnit.NANOSECONDS);
+        root.end(start + TimeUnit.MILLISECONDS.toNanos(durationMs), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,71 @@
+package com.java.coreTemplate.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlInspectionFilterTest {
+
+    private SqlInspectionProperties properties;
+    private SqlInspectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqlInspectionProperties();
+        properties.setStatementBudget(10);
+        properties.setRepeatedStatementThreshold(3);
+        properties.setFailOnViolation(true);
+        filter = new SqlInspectionFilter(properties);
+    }
+
+    @Test
+    void shapeCollapsesLiteralsAndInLists() {
+        assertEquals("select * from home where id=? and name=?",
+                SqlStatementRecorder.shape("select *  from home\n where id=42 and name='O''Brien'"));
+        assertEquals("delete from banner where id IN (?+)",
+                SqlStatementRecorder.shape("delete from banner where id in (?, ?,?)"));
+    }
+
+    @Test
+    void lazyLoadsOfTheSameShapeFailTheRequest() {
+        FilterChain chain = (req, res) -> {
+            SqlStatementRecorder.record("select * from home where id=?", 1);
+            for (int i = 0; i < 3; i++) {
+                SqlStatementRecorder.record("select * from amenity where home_id=" + i, 1);
+            }
+        };
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/homes"), new MockHttpServletResponse(), chain));
+        assertTrue(e.getMessage().contains("select * from amenity where home_id=?"));
+        assertNull(SqlStatementRecorder.end());
+    }
+
+    @Test
+    void requestWithinBudgetPasses() {
+        FilterChain chain = (req, res) -> {
+            SqlStatementRecorder.record("select * from home where id=?", 1);
+            SqlStatementRecorder.record("select * from amenity where home_id=?", 1);
+        };
+        assertDoesNotThrow(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/homes/1"),
+                new MockHttpServletResponse(), chain));
+    }
+
+    @Test
+    void overBudgetFailsEvenWithoutRepeats() {
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 11; i++) {
+                SqlStatementRecorder.record("select * from t" + (char) ('a' + i), 1);
+            }
+        };
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/homes"), new MockHttpServletResponse(), chain));
+    }
+}
@@ -0,0 +1,122 @@
+package com.java.coreTemplate.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.coreTemplate.model.dto.Advertise;
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.HomeSummary;
+import com.java.coreTemplate.model.dto.Navbar;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WireFormatConfigTest {
+
+    private final WireFormatConfig config = new WireFormatConfig();
+    private final MappingJackson2HttpMessageConverter json =
+            new MappingJackson2HttpMessageConverter(new Jackson2ObjectMapperBuilder().build());
+    private final AbstractJackson2HttpMessageConverter cbor =
+            config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+    private final AbstractJackson2HttpMessageConverter smile =
+            config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+    private final ObjectMapper trees = new Jackson2ObjectMapperBuilder().build();
+
+    @Test
+    void entitiesRoundTripUnchangedInEveryFormat() throws Exception {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Banner banner = new Banner();
+        banner.setId(1L);
+        banner.setName("Spring sale");
+        banner.setImageUrl("https://cdn.example.com/banners/1.png");
+        banner.setActive(true);
+        banner.setStartDate(now);
+        banner.setVersion(3L);
+
+        Home home = new Home();
+        home.setId(2L);
+        home.setName("Corner house");
+        home.setPrice(325_000.5);
+        home.setLatitude(40.75);
+        home.setBedrooms(3);
+        home.setForSale(true);
+        home.setCreatedAt(now);
+
+        Advertise advertise = new Advertise();
+        advertise.setId(3L);
+        advertise.setTitle("Garage for rent");
+        advertise.setDescription("\u00dcn\u00efcode \u2713 survives");
+        advertise.setPrice(120.0);
+        advertise.setFeatured(true);
+
+        Navbar navbar = new Navbar();
+        navbar.setId(4L);
+        navbar.setName("About");
+        navbar.setUrl("/about");
+        navbar.setCreatedAt(Instant.parse("2026-01-02T03:04:05.678Z"));
+
+        for (AbstractJackson2HttpMessageConverter converter : List.of(json, cbor, smile)) {
+            for (Object entity : List.of(banner, home, advertise, navbar)) {
+                Object copy = roundTrip(converter, entity, entity.getClass());
+                assertEquals(trees.valueToTree(entity), trees.valueToTree(copy),
+                        entity.getClass().getSimpleName() + " as " + converter.getSupportedMediaTypes());
+            }
+        }
+    }
+
+    @Test
+    void binaryFormatsAreSmallerThanJson() throws Exception {
+        List<HomeSummary> page = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            page.add(new HomeSummary(i, "Home " + i, i + " Main Street", "10001", 250_000.0 + i, 3, 2, 1800, true, 1L));
+        }
+        Type type = new TypeReference<List<HomeSummary>>() { }.getType();
+
+        int jsonSize = write(json, page).length;
+        for (AbstractJackson2HttpMessageConverter converter : List.of(cbor, smile)) {
+            byte[] body = write(converter, page);
+            assertTrue(body.length < jsonSize, converter.getSupportedMediaTypes() + ": " + body.length + " >= " + jsonSize);
+            Object copy = converter.read(type, null, new MockHttpInputMessage(body));
+            assertEquals(page, copy);
+        }
+    }
+
+    @Test
+    void apiResponsesVaryByAccept() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.addHeader("Vary", "Origin");
+
+        new WireFormatConfig.VaryByAccept().preHandle(new MockHttpServletRequest(), response, null);
+        new WireFormatConfig.VaryByAccept().preHandle(new MockHttpServletRequest(), response, null);
+
+        assertEquals(List.of("Origin", "Accept"), response.getHeaders("Vary"));
+    }
+
+    private Object roundTrip(AbstractJackson2HttpMessageConverter converter, Object value, Class<?> type) throws Exception {
+        return converter.read(type, null, new MockHttpInputMessage(write(converter, value)));
+    }
+
+    private static byte[] write(AbstractJackson2HttpMessageConverter converter, Object value) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        MediaType mediaType = converter.getSupportedMediaTypes().get(0);
+        converter.write(value, value.getClass(), mediaType, output);
+        return output.getBodyAsBytes();
+    }
+}
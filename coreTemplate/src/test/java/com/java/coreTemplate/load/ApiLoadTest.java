@@ -0,0 +1,226 @@
+package com.java.coreTemplate.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mixed read/write traffic against the /api/v1 controllers and the auth endpoints, backed by an
+ * embedded PostgreSQL seeded with production-like volumes, and the same page assembled by simulated
+ * browsers over HTTP/1.1 and over h2c. Run with {@code mvn -Ploadtest test}; the reports are printed
+ * and written to target/loadtest-report.json and target/page-assembly-report.json.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    private static final int HOMES = Integer.getInteger("loadtest.homes", 1_000_000);
+    private static final int CONTACTS = Integer.getInteger("loadtest.contacts", 100_000);
+    private static final int ADS = Integer.getInteger("loadtest.ads", 10_000);
+    private static final int BANNERS = Integer.getInteger("loadtest.banners", 200);
+    private static final int NAVBARS = Integer.getInteger("loadtest.navbars", 30);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final int BROWSERS = Integer.getInteger("loadtest.browsers", 16);
+    // What Chrome and Firefox open per origin over HTTP/1.1
+    private static final int CONNECTIONS_PER_ORIGIN = 6;
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    // Alternating HTTP/1.1 and HTTP/2 slices of the measured duration, and how much faster HTTP/2 must be
+    private static final int PAGE_ROUNDS = Integer.getInteger("loadtest.page-rounds", 6);
+    private static final double PAGE_MARGIN = Double.parseDouble(System.getProperty("loadtest.page-margin", "0.1"));
+    private static final String LOGIN = "/auth/userlogin?username=admin&password=password";
+
+    private static EmbeddedPostgres postgres;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.org.springframework.web", () -> "INFO");
+        registry.add("logging.level.org.springframework.security", () -> "INFO");
+    }
+
+    @AfterAll
+    void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO home (name, address, zip_code, latitude, longitude, price, bedrooms, " +
+                    "bathrooms, square_footage, is_active, is_for_sale, built_year, created_at, updated_at, version) " +
+                    "SELECT 'Home ' || g, g || ' Main Street, Springfield', lpad((10000 + g % 90000)::text, 5, '0'), " +
+                    "40.25 + random(), -74.5 + random(), 100000 + (g % 900) * 1000, 1 + g % 5, 1 + g % 3, " +
+                    "800 + g % 3000, g % 10 <> 0, g % 3 = 0, 1950 + g % 70, now(), now(), 0 " +
+                    "FROM generate_series(1, ?) g", HOMES);
+            jdbcTemplate.update("INSERT INTO contact (first_name, last_name, email, phone_number, is_active, " +
+                    "is_verified, created_at, updated_at, version) " +
+                    "SELECT 'First' || g, 'Last' || (g % 5000), 'contact' || g || '@example.com', '+1555' || g, " +
+                    "true, g % 2 = 0, now() - (g % 365) * interval '1 day', now(), 0 " +
+                    "FROM generate_series(1, ?) g", CONTACTS);
+            jdbcTemplate.update("INSERT INTO advertise (title, description, price, is_featured, is_active, " +
+                    "created_at, updated_at, version) " +
+                    "SELECT 'Ad ' || g, repeat('Great offer ', 20), 10 + g % 500, g % 20 = 0, true, now(), now(), 0 " +
+                    "FROM generate_series(1, ?) g", ADS);
+            jdbcTemplate.update("INSERT INTO banner (name, image_url, target_url, is_active, start_date, end_date, " +
+                    "display_order, created_at, updated_at, version) " +
+                    "SELECT 'Banner ' || g, 'https://cdn.example.com/b/' || g || '.png', 'https://example.com/' || g, " +
+                    "true, now() - interval '7 days', now() + interval '7 days', g, now(), now(), 0 " +
+                    "FROM generate_series(1, ?) g", BANNERS);
+            jdbcTemplate.update("INSERT INTO navbar (name, display_order, is_active, is_external, url, icon_class, " +
+                    "created_at, updated_at, version) " +
+                    "SELECT 'Menu ' || g, g, true, false, '/section/' || g, 'icon-' || g, now(), now(), 0 " +
+                    "FROM generate_series(1, ?) g", NAVBARS);
+            // The account the workers sign in as through /auth/userlogin
+            jdbcTemplate.update("INSERT INTO users (username, password, email) VALUES ('admin', 'password', 'admin@example.com')");
+        });
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        LoadDriver driver = new LoadDriver("http://localhost:" + port);
+        String bearer = "Bearer " + login(driver);
+
+        driver
+                .scenario("GET /api/v1/banners", 15, r -> get(driver, "/api/v1/banners", bearer))
+                .scenario("GET /api/v1/banners/{id}", 10, r -> get(driver, "/api/v1/banners/" + (1 + r.nextInt(BANNERS)), bearer))
+                .scenario("GET /api/v1/navbar", 15, r -> get(driver, "/api/v1/navbar", bearer))
+                .scenario("GET /api/v1/homes", 10, r -> get(driver, "/api/v1/homes?page=" + r.nextInt(100), bearer))
+                .scenario("GET /api/v1/homes/{id}", 15, r -> get(driver, "/api/v1/homes/" + (1 + r.nextInt(HOMES)), bearer))
+                .scenario("GET /api/v1/homes/search", 5, r -> get(driver, "/api/v1/homes/search?query=" + r.nextInt(HOMES), bearer))
+                .scenario("GET /api/v1/advertise", 10, r -> get(driver, "/api/v1/advertise?page=" + r.nextInt(50), bearer))
+                .scenario("GET /api/v1/advertise/{id}", 5, r -> get(driver, "/api/v1/advertise/" + (1 + r.nextInt(ADS)), bearer))
+                .scenario("POST /api/v1/homes", 5, r -> json(driver, "POST", "/api/v1/homes", bearer,
+                        "{\"name\":\"Load home\",\"address\":\"1 Test Road\",\"zipCode\":\"10001\",\"price\":" +
+                                (100_000 + r.nextInt(900_000)) + ",\"bedrooms\":3,\"active\":true}"))
+                .scenario("PUT /api/v1/banners/{id}", 3, r -> {
+                    long id = 1 + r.nextInt(BANNERS);
+                    return json(driver, "PUT", "/api/v1/banners/" + id, bearer,
+                            "{\"name\":\"Banner " + id + "\",\"imageUrl\":\"https://cdn.example.com/b/" + id + ".png\"}");
+                })
+                .scenario("POST /auth/userlogin", 4, r -> HttpRequest.newBuilder(driver.uri(LOGIN))
+                        .POST(HttpRequest.BodyPublishers.noBody()))
+                .scenario("GET /api/protected", 3, r -> get(driver, "/api/protected", bearer));
+
+        List<LoadDriver.Result> results = driver.run(CONCURRENCY, WARMUP, DURATION);
+        report(results, "loadtest-report.json");
+
+        LoadDriver.Result total = results.get(results.size() - 1);
+        assertTrue(total.requests() > 0, "no requests completed");
+        assertTrue(total.errors() <= total.requests() / 100, "more than 1% of requests failed");
+    }
+
+    /**
+     * The home page's API calls - menu, banners, a listing page, ads and a row of home cards -
+     * fetched in parallel, first with a browser's HTTP/1.1 connection limit, then multiplexed on
+     * one HTTP/2 connection. Multiplexing has to bring the median page time down.
+     */
+    @Test
+    void pageAssemblyHttp11VersusHttp2() throws Exception {
+        LoadDriver driver = new LoadDriver("http://localhost:" + port);
+        String bearer = "Bearer " + login(driver);
+        PageAssemblyDriver pages = new PageAssemblyDriver(r -> {
+            List<HttpRequest> page = new ArrayList<>();
+            page.add(get(driver, "/api/v1/navbar/active", bearer).build());
+            page.add(get(driver, "/api/v1/banners/active", bearer).build());
+            page.add(get(driver, "/api/v1/homes?page=" + r.nextInt(100) + "&fields=name,price,bedrooms", bearer).build());
+            page.add(get(driver, "/api/v1/advertise?size=10&page=" + r.nextInt(50), bearer).build());
+            for (int card = 0; card < 8; card++) {
+                page.add(get(driver, "/api/v1/homes/" + (1 + r.nextInt(HOMES)), bearer).build());
+            }
+            return page;
+        });
+
+        List<LoadDriver.Result> results = pages.compare(List.of(HttpClient.Version.HTTP_1_1, HttpClient.Version.HTTP_2),
+                BROWSERS, CONNECTIONS_PER_ORIGIN, WARMUP, DURATION, PAGE_ROUNDS);
+        LoadDriver.Result http11 = results.get(0);
+        LoadDriver.Result http2 = results.get(1);
+        assertEquals(Set.of(HttpClient.Version.HTTP_2), pages.negotiated(HttpClient.Version.HTTP_2),
+                "h2c was not negotiated");
+        report(results, "page-assembly-report.json");
+
+        for (LoadDriver.Result result : results) {
+            assertTrue(result.requests() > 0, result.scenario() + ": no pages completed");
+            assertTrue(result.errors() <= result.requests() / 100, result.scenario() + ": more than 1% of pages failed");
+        }
+        // Twelve calls queue behind six connections over HTTP/1.1; a tie within noise is not a win
+        assertTrue(http2.p50() < http11.p50() * (1 - PAGE_MARGIN),
+                "median page time over HTTP/2 " + http2.p50() + " ms, over HTTP/1.1 " + http11.p50()
+                        + " ms, expected at least " + Math.round(PAGE_MARGIN * 100) + "% faster");
+    }
+
+    private static String login(LoadDriver driver) throws Exception {
+        HttpResponse<String> response = driver.send(HttpRequest.newBuilder(driver.uri(LOGIN))
+                .POST(HttpRequest.BodyPublishers.noBody()).build());
+        assertEquals(200, response.statusCode(), "login failed: " + response.body());
+        String body = response.body();
+        return body.substring(body.indexOf("JWT Token: ") + "JWT Token: ".length()).trim();
+    }
+
+    private static HttpRequest.Builder get(LoadDriver driver, String path, String bearer) {
+        return HttpRequest.newBuilder(driver.uri(path)).header("Authorization", bearer).GET();
+    }
+
+    private static HttpRequest.Builder json(LoadDriver driver, String method, String path, String bearer, String body) {
+        return HttpRequest.newBuilder(driver.uri(path))
+                .header("Authorization", bearer)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static void report(List<LoadDriver.Result> results, String file) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-32s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (LoadDriver.Result r : results) {
+            table.append(String.format("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.scenario(), r.requests(), r.errors(), r.throughput(), r.p50(), r.p99(), r.p999(), r.max()));
+        }
+        System.out.println(table);
+
+        Path target = Path.of("target");
+        Files.createDirectories(target);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(target.resolve(file).toFile(), results);
+    }
+}
@@ -0,0 +1,126 @@
+package com.java.coreTemplate.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load generator: a fixed number of workers each pick a weighted scenario, send
+ * it, wait for the response and record the latency.
+ */
+class LoadDriver {
+
+    record Scenario(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+    }
+
+    record Result(String scenario, int requests, long errors, double throughput,
+                  double p50, double p99, double p999, double max) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private int totalWeight;
+
+    LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    LoadDriver scenario(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+        scenarios.add(new Scenario(name, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    List<Result> run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        drive(concurrency, warmup);
+        Map<String, LatencyStats> merged = drive(concurrency, duration);
+
+        List<Result> results = new ArrayList<>();
+        LatencyStats total = new LatencyStats();
+        merged.forEach((name, stats) -> {
+            results.add(toResult(name, stats, duration));
+            total.merge(stats);
+        });
+        results.add(toResult("TOTAL", total, duration));
+        return results;
+    }
+
+    private Map<String, LatencyStats> drive(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Map<String, LatencyStats>> perWorker = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Map<String, LatencyStats> stats = new LinkedHashMap<>();
+            scenarios.forEach(scenario -> stats.put(scenario.name(), new LatencyStats()));
+            perWorker.add(stats);
+            Thread worker = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(random);
+                        HttpRequest request = scenario.request().apply(random).timeout(Duration.ofSeconds(30)).build();
+                        long start = System.nanoTime();
+                        boolean error;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            // A 401 from an expired token or a 404 from a bad id is as much a failed request as a 500
+                            error = response.statusCode() >= 400;
+                        } catch (Exception e) {
+                            error = true;
+                        }
+                        stats.get(scenario.name()).record(System.nanoTime() - start, error);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-worker-" + i);
+            worker.start();
+        }
+        done.await();
+
+        Map<String, LatencyStats> merged = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> merged.put(scenario.name(), new LatencyStats()));
+        perWorker.forEach(stats -> stats.forEach((name, s) -> merged.get(name).merge(s)));
+        return merged;
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    static Result toResult(String name, LatencyStats stats, Duration duration) {
+        return new Result(name, stats.count(), stats.errors(),
+                stats.count() / (duration.toMillis() / 1000.0),
+                stats.percentileMillis(50), stats.percentileMillis(99),
+                stats.percentileMillis(99.9), stats.percentileMillis(100));
+    }
+}
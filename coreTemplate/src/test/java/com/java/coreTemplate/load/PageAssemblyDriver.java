@@ -0,0 +1,143 @@
+package com.java.coreTemplate.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Simulated browsers assembling a page: every API call the page needs is started at once and the
+ * page is done when the last response is in. Over HTTP/1.1 a browser has at most
+ * {@code connectionsPerOrigin} requests in flight, one per connection, and the rest queue behind
+ * them; over HTTP/2 all of them go out as streams on one connection. Latency is per page.
+ * Protocols are compared in alternating rounds after all of them have warmed up, so the server's
+ * caches and JIT favour neither.
+ */
+class PageAssemblyDriver {
+
+    private final Function<ThreadLocalRandom, List<HttpRequest>> page;
+    private final Map<HttpClient.Version, Set<HttpClient.Version>> negotiated = new ConcurrentHashMap<>();
+
+    PageAssemblyDriver(Function<ThreadLocalRandom, List<HttpRequest>> page) {
+        this.page = page;
+    }
+
+    /**
+     * Protocol versions the server answered with while measuring the given requested version.
+     */
+    Set<HttpClient.Version> negotiated(HttpClient.Version version) {
+        return Set.copyOf(negotiated.getOrDefault(version, Set.of()));
+    }
+
+    /**
+     * Warms every version up, then measures them for {@code duration} each, split into
+     * {@code rounds} slices that alternate which version goes first. Results follow {@code versions}.
+     */
+    List<LoadDriver.Result> compare(List<HttpClient.Version> versions, int browsers, int connectionsPerOrigin,
+                                    Duration warmup, Duration duration, int rounds) throws InterruptedException {
+        for (HttpClient.Version version : versions) {
+            drive(version, browsers, connectionsPerOrigin, warmup);
+        }
+        negotiated.clear();
+
+        Map<HttpClient.Version, LatencyStats> stats = new LinkedHashMap<>();
+        versions.forEach(version -> stats.put(version, new LatencyStats()));
+        Duration slice = duration.dividedBy(rounds);
+        for (int round = 0; round < rounds; round++) {
+            List<HttpClient.Version> order = new ArrayList<>(versions);
+            if (round % 2 == 1) {
+                Collections.reverse(order);
+            }
+            for (HttpClient.Version version : order) {
+                stats.get(version).merge(drive(version, browsers, connectionsPerOrigin, slice));
+            }
+        }
+
+        List<LoadDriver.Result> results = new ArrayList<>();
+        stats.forEach((version, measured) -> results.add(LoadDriver.toResult(
+                "page over " + (version == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1"),
+                measured, slice.multipliedBy(rounds))));
+        return results;
+    }
+
+    private LatencyStats drive(HttpClient.Version version, int browsers, int connectionsPerOrigin,
+                               Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Set<HttpClient.Version> answered = negotiated.computeIfAbsent(version, key -> ConcurrentHashMap.newKeySet());
+        List<LatencyStats> perBrowser = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(browsers);
+
+        for (int i = 0; i < browsers; i++) {
+            LatencyStats stats = new LatencyStats();
+            perBrowser.add(stats);
+            Thread browser = new Thread(() -> {
+                try {
+                    HttpClient client = HttpClient.newBuilder()
+                            .version(version)
+                            .connectTimeout(Duration.ofSeconds(5))
+                            .build();
+                    Semaphore connections = version == HttpClient.Version.HTTP_1_1
+                            ? new Semaphore(connectionsPerOrigin) : null;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    // Like the page's HTML document: opens (and for h2c upgrades) the connection first
+                    client.send(page.apply(random).get(0), HttpResponse.BodyHandlers.discarding());
+                    while (System.nanoTime() < deadline) {
+                        loadPage(client, connections, page.apply(random), stats, answered);
+                    }
+                } catch (Exception e) {
+                    stats.record(0, true);
+                } finally {
+                    done.countDown();
+                }
+            }, "page-browser-" + i);
+            browser.start();
+        }
+        done.await();
+
+        LatencyStats merged = new LatencyStats();
+        perBrowser.forEach(merged::merge);
+        return merged;
+    }
+
+    private void loadPage(HttpClient client, Semaphore connections, List<HttpRequest> requests, LatencyStats stats,
+                          Set<HttpClient.Version> answered) throws InterruptedException {
+        AtomicBoolean error = new AtomicBoolean();
+        List<CompletableFuture<?>> responses = new ArrayList<>(requests.size());
+        long start = System.nanoTime();
+        for (HttpRequest request : requests) {
+            if (connections != null) {
+                connections.acquire();
+            }
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (connections != null) {
+                            connections.release();
+                        }
+                        if (failure != null || response.statusCode() >= 400) {
+                            error.set(true);
+                        } else {
+                            answered.add(response.version());
+                        }
+                    }));
+        }
+        try {
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        } catch (Exception e) {
+            error.set(true);
+        }
+        stats.record(System.nanoTime() - start, error.get());
+    }
+}
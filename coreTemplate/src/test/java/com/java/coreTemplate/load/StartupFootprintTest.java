@@ -0,0 +1,157 @@
+package com.java.coreTemplate.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the packaged JVM build (target/*.jar) and the native executable (target/coreTemplate) as
+ * real processes against an embedded PostgreSQL, smoke-tests each, and compares time to healthy and
+ * resident memory. Whichever builds exist are measured; the comparison is printed and written to
+ * target/footprint-report.json.
+ * <p>
+ * mvn -DskipTests package && mvn -Pnative -DskipTests native:compile
+ * && mvn test -Dgroups=footprint -DexcludedGroups=none
+ */
+@Tag("footprint")
+class StartupFootprintTest {
+
+    private static final Path JAR = Path.of("target", "coreTemplate-0.0.1-SNAPSHOT.jar");
+    private static final Path NATIVE = Path.of("target", "coreTemplate");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final int SMOKE_REQUESTS = 200;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compareJvmAndNativeBuilds() throws Exception {
+        assumeTrue(Files.exists(JAR) || Files.isExecutable(NATIVE), "package the JVM and/or native build first");
+
+        List<Footprint> results = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            if (Files.exists(JAR)) {
+                String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+                results.add(measure("jvm", List.of(java, "-jar", JAR.toString()), postgres));
+            }
+            if (Files.isExecutable(NATIVE)) {
+                results.add(measure("native", List.of(NATIVE.toString()), postgres));
+            }
+        }
+        report(results);
+    }
+
+    private Footprint measure(String build, List<String> executable, EmbeddedPostgres postgres) throws Exception {
+        int port = freePort();
+        int managementPort = freePort();
+        List<String> command = new ArrayList<>(executable);
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of("target", "footprint-" + build + ".log").toFile())
+                .start();
+        try {
+            awaitHealthy(process, managementPort);
+            double startupMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            // Unauthenticated API calls still go through the filters, controller mapping and error handling
+            for (int i = 0; i < SMOKE_REQUESTS; i++) {
+                assertEquals(401, get(port, "/api/v1/homes").statusCode(), build + ": /api/v1/homes without credentials");
+            }
+            HttpResponse<String> prometheus = get(managementPort, "/actuator/prometheus");
+            assertEquals(200, prometheus.statusCode(), build + ": /actuator/prometheus");
+            assertTrue(prometheus.body().contains("http_server_requests"), build + ": request metrics exported");
+
+            return new Footprint(build, startupMs, residentMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private void awaitHealthy(Process process, int managementPort) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process exited with " + process.exitValue() + " during startup");
+            }
+            try {
+                if (get(managementPort, "/actuator/health").statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Not healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // VmRSS from /proc; -1 where that is not available (non-Linux)
+    private static double residentMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) / 1024.0;
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void report(List<Footprint> results) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-8s %14s %10s%n", "build", "to healthy ms", "RSS MB"));
+        for (Footprint f : results) {
+            table.append(String.format("%-8s %14.0f %10.1f%n", f.build(), f.startupMs(), f.rssMb()));
+        }
+        System.out.println(table);
+
+        Path target = Path.of("target");
+        Files.createDirectories(target);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(target.resolve("footprint-report.json").toFile(), results);
+    }
+
+    record Footprint(String build, double startupMs, double rssMb) {
+    }
+}
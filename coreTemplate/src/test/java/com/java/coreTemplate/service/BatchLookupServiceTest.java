@@ -0,0 +1,130 @@
+package com.java.coreTemplate.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Register;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchLookupServiceTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager("banners", "registers");
+    private final BatchLookupService service = new BatchLookupService(cacheManager, 3);
+    private final List<Collection<Long>> queries = new ArrayList<>();
+
+    // Stands in for repository::findAllById over rows 1..10, in id order like the database would return them
+    private final Function<Collection<Long>, List<Banner>> loader = ids -> {
+        queries.add(List.copyOf(ids));
+        return ids.stream().filter(id -> id <= 10).sorted().map(BatchLookupServiceTest::banner).toList();
+    };
+
+    BatchLookupServiceTest() {
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+    }
+
+    @Test
+    void onlyMissesAreQueriedAndResultsKeepTheRequestedOrder() {
+        Cache cache = cacheManager.getCache("banners");
+        Banner cached = banner(7L);
+        cache.put(7L, cached);
+
+        List<Banner> banners = service.findAll("banners", List.of(9L, 7L, 2L, 9L), loader, Banner::getId);
+
+        assertEquals(List.of(9L, 7L, 2L), banners.stream().map(Banner::getId).toList());
+        assertSame(cached, banners.get(1));
+        assertEquals(List.of(List.of(9L, 2L)), queries);
+        assertNotNull(cache.get(2L));
+        assertNotNull(cache.get(9L));
+    }
+
+    @Test
+    void missingRowsAreCachedAsAbsent() {
+        List<Banner> banners = service.findAll("banners", List.of(42L, 1L), loader, Banner::getId);
+        assertEquals(List.of(1L), banners.stream().map(Banner::getId).toList());
+
+        Cache.ValueWrapper absent = cacheManager.getCache("banners").get(42L);
+        assertNotNull(absent);
+        assertNull(absent.get());
+
+        assertEquals(List.of(1L), service.findAll("banners", List.of(42L, 1L), loader, Banner::getId)
+                .stream().map(Banner::getId).toList());
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void rowsLoadedAcrossAnEvictionAreNotStored() {
+        Cache cache = cacheManager.getCache("banners");
+        List<Banner> banners = service.findAll("banners", List.of(1L, 42L), ids -> {
+            // A banner write clears the cache while the IN query still sees the old rows
+            cache.clear();
+            return loader.apply(ids);
+        }, Banner::getId);
+
+        assertEquals(List.of(1L), banners.stream().map(Banner::getId).toList());
+        assertNull(cache.get(1L));
+        assertNull(cache.get(42L));
+
+        service.findAll("banners", List.of(1L), loader, Banner::getId);
+        assertNotNull(cache.get(1L));
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void uncachedResourcesGoStraightToTheQuery() {
+        List<Banner> banners = service.findAll(null, List.of(3L, 1L), loader, Banner::getId);
+
+        assertEquals(List.of(3L, 1L), banners.stream().map(Banner::getId).toList());
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void uuidIdsAreCachedUnderTheSameKeysAsFindById() {
+        UUID known = UUID.fromString("8d1f3c56-6a3e-4c0f-9a51-0d7c2f4b9e11");
+        UUID unknown = UUID.fromString("2b7e9c40-1f5d-4e8a-b3c6-5a4d9e0f7c22");
+        List<Collection<UUID>> registerQueries = new ArrayList<>();
+        Function<Collection<UUID>, List<Register>> registerLoader = ids -> {
+            registerQueries.add(List.copyOf(ids));
+            return ids.stream().filter(known::equals).map(id -> {
+                Register register = new Register();
+                register.setId(id);
+                return register;
+            }).toList();
+        };
+
+        List<Register> registers = service.findAll("registers", List.of(unknown, known), registerLoader, Register::getId);
+        assertEquals(List.of(known), registers.stream().map(Register::getId).toList());
+        assertNotNull(cacheManager.getCache("registers").get(known));
+        assertNotNull(cacheManager.getCache("registers").get(unknown));
+
+        service.findAll("registers", List.of(known, unknown), registerLoader, Register::getId);
+        assertEquals(1, registerQueries.size());
+    }
+
+    @Test
+    void batchSizeIsBounded() {
+        assertEquals(List.of(), service.findAll("banners", List.of(), loader, Banner::getId));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.findAll("banners", List.of(1L, 2L, 3L, 4L), loader, Banner::getId));
+        assertEquals(0, queries.size());
+    }
+
+    private static Banner banner(Long id) {
+        Banner banner = new Banner();
+        banner.setId(id);
+        banner.setName("Banner " + id);
+        return banner;
+    }
+}
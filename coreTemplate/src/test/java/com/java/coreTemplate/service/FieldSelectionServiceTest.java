@@ -0,0 +1,55 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.coreTemplate.model.dto.Banner;
+import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.Register;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldSelectionServiceTest {
+
+    private final FieldSelectionService service =
+            new FieldSelectionService(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void fieldsResolveToAttributesWithTheIdFirst() {
+        Map<String, String> selection = service.select(Home.class, " price, name ,active,,price");
+
+        assertEquals(List.of("id", "price", "name", "active"), List.copyOf(selection.keySet()));
+        assertEquals("isActive", selection.get("active"));
+        assertEquals("price", selection.get("price"));
+    }
+
+    @Test
+    void everySerializedColumnIsSelectable() {
+        FieldSelectionService.Schema schema = service.schema(Banner.class);
+
+        assertEquals("id", schema.idProperty());
+        assertTrue(schema.attributes().keySet().containsAll(
+                List.of("id", "name", "imageUrl", "active", "displayOrder", "createdAt", "version")));
+    }
+
+    @Test
+    void unknownOrMissingFieldsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.select(Home.class, "name,colour"));
+        assertThrows(IllegalArgumentException.class, () -> service.select(Home.class, "isActive"));
+        assertThrows(IllegalArgumentException.class, () -> service.select(Home.class, " , "));
+        assertThrows(IllegalArgumentException.class, () -> service.select(Home.class, null));
+    }
+
+    @Test
+    void writeOnlyPasswordHashIsNotSelectable() {
+        assertFalse(service.schema(Register.class).attributes().containsKey("passwordHash"));
+        // ApiExceptionHandler answers this with 400
+        assertThrows(IllegalArgumentException.class, () -> service.select(Register.class, "email,passwordHash"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.util.GeoHashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HomeGeoIndexTest {
+
+    private static final int HOMES = 100_000;
+    private static final double CENTER_LAT = 40.7506;
+    private static final double CENTER_LON = -73.9971;
+
+    private final HomeGeoIndex index = new HomeGeoIndex();
+    private final List<HomeLocation> locations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (long id = 1; id <= HOMES; id++) {
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5);
+            double lon = CENTER_LON + (random.nextDouble() - 0.5);
+            locations.add(new HomeLocation(id, lat, lon, 100_000 + random.nextInt(900_000) * 1.0, 1 + random.nextInt(5)));
+        }
+        index.rebuild(locations);
+    }
+
+    @Test
+    void radiusSearchMatchesBruteForce() {
+        double radiusKm = 3;
+        Set<Long> expected = locations.stream()
+                .filter(l -> l.bedrooms() >= 3)
+                .filter(l -> GeoHashUtil.distanceKm(CENTER_LAT, CENTER_LON, l.latitude(), l.longitude()) <= radiusKm)
+                .map(HomeLocation::id)
+                .collect(Collectors.toSet());
+
+        List<HomeLocation> actual = index.findWithin(CENTER_LAT, CENTER_LON, radiusKm,
+                l -> l.bedrooms() >= 3, Integer.MAX_VALUE);
+
+        assertEquals(expected, actual.stream().map(HomeLocation::id).collect(Collectors.toSet()));
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(distance(actual.get(i - 1)) <= distance(actual.get(i)));
+        }
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        HomeLocation moved = new HomeLocation(1L, CENTER_LAT, CENTER_LON, 1.0, 1);
+        index.put(moved);
+        assertEquals(HOMES, index.size());
+        assertEquals(1L, index.findWithin(CENTER_LAT, CENTER_LON, 0.001, l -> true, 1).get(0).id());
+
+        index.remove(1L);
+        assertEquals(HOMES - 1, index.size());
+        assertTrue(index.findWithin(CENTER_LAT, CENTER_LON, 0.001, l -> l.id() == 1L, 1).isEmpty());
+    }
+
+    private static double distance(HomeLocation location) {
+        return GeoHashUtil.distanceKm(CENTER_LAT, CENTER_LON, location.latitude(), location.longitude());
+    }
+}
@@ -0,0 +1,155 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.HomePriceJob;
+import com.java.coreTemplate.model.dto.HomePriceJobChunk;
+import com.java.coreTemplate.repository.HomePriceJobChunkRepository;
+import com.java.coreTemplate.repository.HomePriceJobRepository;
+import com.java.coreTemplate.repository.HomeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class HomePriceJobServiceTest {
+
+    private static final long JOB_ID = 7L;
+
+    private final HomeRepository homeRepository = mock(HomeRepository.class);
+    private final HomePriceJobRepository jobRepository = mock(HomePriceJobRepository.class);
+    private final HomePriceJobChunkRepository chunkRepository = mock(HomePriceJobChunkRepository.class);
+    private final HomeService homeService = mock(HomeService.class);
+    private final List<HomePriceJobChunk> savedChunks = new ArrayList<>();
+    private HomePriceJob job;
+    private HomePriceJobService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        job = new HomePriceJob();
+        job.setPercentageIncrease(10.0);
+        when(jobRepository.save(any(HomePriceJob.class))).thenAnswer(invocation -> {
+            HomePriceJob saved = invocation.getArgument(0);
+            saved.setId(JOB_ID);
+            job = saved;
+            return saved;
+        });
+        when(jobRepository.findById(JOB_ID)).thenAnswer(invocation -> Optional.of(job));
+        when(jobRepository.existsById(JOB_ID)).thenReturn(true);
+        when(chunkRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<HomePriceJobChunk> chunks = invocation.getArgument(0);
+            for (HomePriceJobChunk chunk : chunks) {
+                chunk.setId(100L + savedChunks.size());
+                savedChunks.add(chunk);
+            }
+            return chunks;
+        });
+        when(chunkRepository.claimChunk(anyLong())).thenReturn(1);
+        when(homeRepository.bulkUpdatePriceInRange(anyLong(), anyLong(), anyDouble())).thenReturn(5);
+
+        // Chunks run on the calling thread, so start() returns with the job settled
+        service = new HomePriceJobService(homeRepository, jobRepository, chunkRepository, homeService,
+                Runnable::run, transactionManager, false);
+    }
+
+    @Test
+    void idSpaceIsSplitIntoHalfOpenRangesThatAreEachRepricedOnce() {
+        when(homeRepository.findMinId()).thenReturn(Optional.of(1L));
+        when(homeRepository.findMaxId()).thenReturn(Optional.of(2500L));
+        when(chunkRepository.findByJobIdAndStatusNotOrderByStartId(JOB_ID, HomePriceJobChunk.Status.COMPLETED))
+                .thenAnswer(invocation -> savedChunks);
+
+        HomePriceJob created = service.createJob(10.0, 1000);
+
+        assertEquals(3, created.getTotalChunks());
+        assertEquals(List.of(1L, 1001L, 2001L), savedChunks.stream().map(HomePriceJobChunk::getStartId).toList());
+        assertEquals(List.of(1001L, 2001L, 3001L), savedChunks.stream().map(HomePriceJobChunk::getEndId).toList());
+        for (HomePriceJobChunk chunk : savedChunks) {
+            verify(chunkRepository).claimChunk(chunk.getId());
+            verify(homeRepository).bulkUpdatePriceInRange(chunk.getStartId(), chunk.getEndId(), 10.0);
+            verify(chunkRepository).markChunk(eq(chunk.getId()), eq(HomePriceJobChunk.Status.COMPLETED), eq(5), any());
+        }
+        assertEquals(HomePriceJob.Status.COMPLETED, job.getStatus());
+        verify(homeService).refreshAfterBulkUpdate();
+    }
+
+    @Test
+    void resumeSkipsRangesClaimedByAnotherInstanceAndLeavesThemToIt() {
+        job.setId(JOB_ID);
+        job.setStatus(HomePriceJob.Status.RUNNING);
+        HomePriceJobChunk mine = chunk(101L, 1L, 1001L);
+        HomePriceJobChunk theirs = chunk(102L, 1001L, 2001L);
+        when(chunkRepository.findByJobIdAndStatusNotOrderByStartId(JOB_ID, HomePriceJobChunk.Status.COMPLETED))
+                .thenReturn(List.of(mine, theirs));
+        when(chunkRepository.claimChunk(102L)).thenReturn(0);
+        when(chunkRepository.countByJobIdAndStatus(JOB_ID, HomePriceJobChunk.Status.PENDING)).thenReturn(1L);
+
+        assertTrue(service.start(JOB_ID));
+
+        verify(chunkRepository).resetFailedChunks(JOB_ID);
+        verify(homeRepository).bulkUpdatePriceInRange(1L, 1001L, 10.0);
+        verify(homeRepository, never()).bulkUpdatePriceInRange(eq(1001L), anyLong(), anyDouble());
+        verify(chunkRepository, never()).markChunk(eq(102L), any(), anyInt(), any());
+        assertEquals(HomePriceJob.Status.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void failedRangeIsRecordedAndFailsTheJobWithoutStoppingTheOthers() {
+        job.setId(JOB_ID);
+        HomePriceJobChunk ok = chunk(101L, 1L, 1001L);
+        HomePriceJobChunk broken = chunk(102L, 1001L, 2001L);
+        when(chunkRepository.findByJobIdAndStatusNotOrderByStartId(JOB_ID, HomePriceJobChunk.Status.COMPLETED))
+                .thenReturn(List.of(broken, ok));
+        when(homeRepository.bulkUpdatePriceInRange(1001L, 2001L, 10.0)).thenThrow(new IllegalStateException("deadlock"));
+        when(chunkRepository.countByJobIdAndStatus(JOB_ID, HomePriceJobChunk.Status.FAILED)).thenReturn(1L);
+
+        assertTrue(service.start(JOB_ID));
+
+        verify(chunkRepository).failChunk(102L);
+        verify(chunkRepository).markChunk(eq(101L), eq(HomePriceJobChunk.Status.COMPLETED), eq(5), any());
+        assertEquals(HomePriceJob.Status.FAILED, job.getStatus());
+        assertEquals("Chunk [1001, 2001): deadlock", job.getLastError());
+
+        // A retry puts failed ranges back to PENDING and clears the error
+        when(chunkRepository.findByJobIdAndStatusNotOrderByStartId(JOB_ID, HomePriceJobChunk.Status.COMPLETED))
+                .thenReturn(List.of());
+        when(chunkRepository.countByJobIdAndStatus(JOB_ID, HomePriceJobChunk.Status.FAILED)).thenReturn(0L);
+        assertTrue(service.start(JOB_ID));
+        verify(chunkRepository, times(2)).resetFailedChunks(JOB_ID);
+        assertEquals(HomePriceJob.Status.COMPLETED, job.getStatus());
+        assertNull(job.getLastError());
+    }
+
+    private static HomePriceJobChunk chunk(Long id, long startId, long endId) {
+        HomePriceJobChunk chunk = new HomePriceJobChunk();
+        chunk.setId(id);
+        chunk.setJobId(JOB_ID);
+        chunk.setStartId(startId);
+        chunk.setEndId(endId);
+        chunk.setStatus(HomePriceJobChunk.Status.PENDING);
+        return chunk;
+    }
+}
@@ -0,0 +1,59 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.Home;
+import com.java.coreTemplate.model.dto.HomeLocation;
+import com.java.coreTemplate.repository.HomeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class HomeServiceNearbyTest {
+
+    private final HomeRepository repository = mock(HomeRepository.class);
+    private final HomeGeoIndex geoIndex = new HomeGeoIndex();
+    private final HomeService service = new HomeService(repository, geoIndex, mock(ZipCentroidService.class),
+            mock(ResourceFingerprintService.class), mock(MergePatchService.class), mock(BatchLookupService.class),
+            mock(TransactionTemplate.class));
+
+    @Test
+    void limitIsBoundedBeforeAnyHomeIsLoaded() {
+        List<HomeLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            locations.add(new HomeLocation(id, 40.75 + id * 1e-5, -73.99, 250_000.0, 3));
+        }
+        geoIndex.rebuild(locations);
+        when(repository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(HomeServiceNearbyTest::home).toList();
+        });
+
+        assertEquals(HomeService.MAX_NEARBY_LIMIT,
+                service.findNearby(40.75, -73.99, 50, null, null, null, HomeService.MAX_NEARBY_LIMIT).size());
+
+        // ApiExceptionHandler answers these with 400
+        assertThrows(IllegalArgumentException.class,
+                () -> service.findNearby(40.75, -73.99, 50, null, null, null, 1_000_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.findNearby(40.75, -73.99, 50, null, null, null, 0));
+        verify(repository, times(1)).findAllById(anyList());
+    }
+
+    private static Home home(Long id) {
+        Home home = new Home();
+        home.setId(id);
+        return home;
+    }
+}
@@ -0,0 +1,60 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.coreTemplate.model.dto.Banner;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MergePatchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MergePatchService service = new MergePatchService(objectMapper, null);
+
+    @Test
+    void ifMatchCarriesTheExpectedVersion() {
+        assertNull(MergePatchService.expectedVersion(null));
+        assertNull(MergePatchService.expectedVersion("*"));
+        assertEquals(4L, MergePatchService.expectedVersion("\"4\""));
+        assertEquals(MergePatchService.UNMATCHABLE_VERSION, MergePatchService.expectedVersion("W/\"4\""));
+        assertEquals(MergePatchService.UNMATCHABLE_VERSION, MergePatchService.expectedVersion("\"12-1700000000000\""));
+        assertEquals(4L, MergePatchService.expectedVersion("\"4-cbor\""));
+        assertEquals(MergePatchService.UNMATCHABLE_VERSION, MergePatchService.expectedVersion("\"4-\""));
+    }
+
+    @Test
+    void patchIsConvertedToAttributeValues() throws Exception {
+        Map<String, Object> changes = service.validate(Banner.class, json(
+                "{\"name\":\"Spring sale\",\"active\":false,\"targetUrl\":null,\"endDate\":\"2026-12-31T23:59:00\"}"));
+
+        assertEquals("Spring sale", changes.get("name"));
+        assertEquals(false, changes.get("isActive"));
+        assertNull(changes.get("targetUrl"));
+        assertEquals(LocalDateTime.of(2026, 12, 31, 23, 59), changes.get("endDate"));
+        assertEquals(4, changes.size());
+    }
+
+    @Test
+    void patchOutsideTheEntitySchemaIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("[]")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"id\":3}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"version\":3}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"createdAt\":\"2026-01-01T00:00:00\"}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"unknown\":1}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"name\":null}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"active\":null}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"displayOrder\":\"first\"}")));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(Banner.class, json("{\"name\":\"" + "x".repeat(101) + "\"}")));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
@@ -0,0 +1,105 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.Navbar;
+import com.java.coreTemplate.repository.NavbarRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class NavbarServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("navbars");
+        }
+
+        @Bean
+        NavbarRepository navbarRepository() {
+            return mock(NavbarRepository.class);
+        }
+
+        @Bean
+        NavbarService navbarService(NavbarRepository repository, CacheManager cacheManager) {
+            return new NavbarService(repository, new BatchLookupService(cacheManager, 100));
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private NavbarRepository repository;
+    private NavbarService service;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        repository = context.getBean(NavbarRepository.class);
+        service = context.getBean(NavbarService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void allAndActiveListsAreCachedSeparately() {
+        Navbar home = navbar(1L, "Home");
+        Navbar hidden = navbar(2L, "Hidden");
+        when(repository.findAll()).thenReturn(List.of(home, hidden));
+        when(repository.findByIsActiveTrue()).thenReturn(List.of(home));
+
+        assertEquals(List.of(home, hidden), service.findAll());
+        assertEquals(List.of(home), service.findAllActive());
+        assertEquals(List.of(home, hidden), service.findAll());
+        assertEquals(List.of(home), service.findAllActive());
+
+        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findByIsActiveTrue();
+    }
+
+    @Test
+    void childrenOfAParentDoNotShadowTheParentItself() {
+        Navbar parent = navbar(1L, "Products");
+        Navbar child = navbar(2L, "Pricing");
+        when(repository.findById(1L)).thenReturn(Optional.of(parent));
+        when(repository.findByParentId(1L)).thenReturn(List.of(child));
+        when(repository.findAllById(List.of())).thenReturn(List.of());
+
+        assertEquals(List.of(child), service.findByParentId(1L));
+        assertEquals(Optional.of(parent), service.findById(1L));
+        // The batch path reads the same id entries and must find an entity there, not a list
+        assertEquals(List.of(parent), service.findAllById(List.of(1L)));
+        assertEquals(List.of(child), service.findByParentId(1L));
+
+        verify(repository, times(1)).findById(1L);
+        verify(repository, times(1)).findByParentId(1L);
+    }
+
+    private static Navbar navbar(Long id, String name) {
+        Navbar navbar = new Navbar();
+        navbar.setId(id);
+        navbar.setName(name);
+        return navbar;
+    }
+}
@@ -0,0 +1,79 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.config.PartitionProperties;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs db/partitioning.sql and the maintenance job against an embedded PostgreSQL, with the shipped
+ * defaults, so the DDL is checked by the server rather than by eye.
+ */
+class PartitionMaintenanceServiceTest {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void migrate() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute("CREATE TABLE contact (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                "first_name VARCHAR(50), last_name VARCHAR(50), email VARCHAR(100), phone_number VARCHAR(20), " +
+                "is_active BOOLEAN, is_verified BOOLEAN, created_at TIMESTAMP(6), updated_at TIMESTAMP(6), " +
+                "version BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE register (id UUID PRIMARY KEY, username VARCHAR(50), " +
+                "email VARCHAR(100), password_hash VARCHAR(255), is_verified BOOLEAN, is_active BOOLEAN, " +
+                "created_at TIMESTAMP(6), updated_at TIMESTAMP(6), version BIGINT)");
+        // One row past the 12 month retention, one current
+        jdbcTemplate.execute("INSERT INTO contact (email, created_at) VALUES " +
+                "('old@example.com', now() - interval '14 months'), ('new@example.com', now())");
+        jdbcTemplate.execute("INSERT INTO register (id, username, email, password_hash, created_at) VALUES " +
+                "(gen_random_uuid(), 'old', 'old@example.com', 'x', now() - interval '14 months')");
+        jdbcTemplate.execute(new ClassPathResource("db/partitioning.sql").getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        postgres.close();
+    }
+
+    @Test
+    void monthsPastRetentionAreDetachedAndArchivedDespiteTheDefaultPartition() {
+        String expired = "_p" + YearMonth.now().minusMonths(14).format(SUFFIX_FORMAT);
+
+        new PartitionMaintenanceService(new PartitionProperties(), jdbcTemplate).maintain();
+
+        for (String table : List.of("contact", "register")) {
+            List<String> attached = partitions(table);
+            assertFalse(attached.contains(table + expired), attached.toString());
+            assertTrue(attached.contains(table + "_default"), attached.toString());
+            assertTrue(attached.contains(table + "_p" + YearMonth.now().plusMonths(3).format(SUFFIX_FORMAT)),
+                    attached.toString());
+            assertEquals("archive", jdbcTemplate.queryForObject(
+                    "SELECT n.nspname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE c.relname = ?",
+                    String.class, table + expired));
+        }
+        assertEquals(List.of("new@example.com"), jdbcTemplate.queryForList("SELECT email FROM contact", String.class));
+    }
+
+    private List<String> partitions(String table) {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? ORDER BY c.relname", String.class, table);
+    }
+}
@@ -0,0 +1,74 @@
+package com.java.coreTemplate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SerializedResponseCacheTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("navbars");
+    private final SerializedResponseCache responseCache =
+            new SerializedResponseCache(cacheManager, new ObjectMapper(), DataSize.ofBytes(64));
+
+    @Test
+    void hitReturnsTheStoredBytesWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        SerializedResponseCache.Body first = responseCache.get("navbars", "active", () -> {
+            loads.incrementAndGet();
+            return List.of("home", "about");
+        });
+        SerializedResponseCache.Body second = responseCache.get("navbars", "active", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("[\"home\",\"about\"]", new String(first.json(), StandardCharsets.UTF_8));
+        assertNull(first.gzip());
+    }
+
+    @Test
+    void evictingTheEntityCacheDropsTheBytes() {
+        responseCache.get("navbars", "active", () -> List.of("home"));
+        cacheManager.getCache("navbars").clear();
+
+        SerializedResponseCache.Body reloaded = responseCache.get("navbars", "active", () -> List.of("contact"));
+
+        assertEquals("[\"contact\"]", new String(reloaded.json(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void bodyLoadedAcrossAnEvictionIsNotStored() {
+        SerializedResponseCache.Body stale = responseCache.get("navbars", "active", () -> {
+            // A navbar write evicts while the old list is being serialized
+            cacheManager.getCache("navbars").clear();
+            return List.of("home");
+        });
+        SerializedResponseCache.Body reloaded = responseCache.get("navbars", "active", () -> List.of("contact"));
+
+        assertEquals("[\"home\"]", new String(stale.json(), StandardCharsets.UTF_8));
+        assertEquals("[\"contact\"]", new String(reloaded.json(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void largeBodiesKeepAGzipCopy() throws Exception {
+        SerializedResponseCache.Body body = responseCache.get("navbars", "all", () -> List.of("x".repeat(100)));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+            assertArrayEquals(body.json(), in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.java.coreTemplate.service;
+
+import com.java.coreTemplate.model.dto.ServiceSummary;
+import com.java.coreTemplate.model.dto.Services;
+import com.java.coreTemplate.repository.ServicesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Mockito cannot generate mocks inside a native image
+@DisabledInNativeImage
+class ServicesServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("services");
+        }
+
+        @Bean
+        ServicesRepository servicesRepository() {
+            return mock(ServicesRepository.class);
+        }
+
+        @Bean
+        ServicesService servicesService(ServicesRepository repository, CacheManager cacheManager) {
+            return new ServicesService(repository, new BatchLookupService(cacheManager, 100));
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private ServicesRepository repository;
+    private ServicesService service;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        repository = context.getBean(ServicesRepository.class);
+        service = context.getBean(ServicesService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void deleteIsReflectedInTheCachedListsAndPages() {
+        Pageable firstPage = PageRequest.of(0, 20);
+        ServiceSummary kept = summary("Hosting");
+        ServiceSummary deleted = summary("Backups");
+        Services entity = new Services();
+        entity.setId(deleted.id());
+        when(repository.findSummaries(firstPage))
+                .thenReturn(new PageImpl<>(List.of(kept, deleted)), new PageImpl<>(List.of(kept)));
+        when(repository.findAll()).thenReturn(List.of(entity), List.of());
+
+        assertEquals(List.of(kept, deleted), service.findSummaries(firstPage).getContent());
+        assertEquals(List.of(entity), service.findAll());
+        assertEquals(List.of(kept, deleted), service.findSummaries(firstPage).getContent());
+
+        service.deleteById(deleted.id());
+
+        // Neither entry is keyed by the id, so only clearing the whole cache drops them
+        assertEquals(List.of(kept), service.findSummaries(firstPage).getContent());
+        assertEquals(List.of(), service.findAll());
+        verify(repository, times(2)).findSummaries(firstPage);
+        verify(repository, times(2)).findAll();
+    }
+
+    private static ServiceSummary summary(String name) {
+        return new ServiceSummary(UUID.randomUUID(), name, 10.0, false, true, 0L);
+    }
+}